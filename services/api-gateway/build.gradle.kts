@@ -7,7 +7,10 @@ plugins {
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("io.micrometer:micrometer-registry-prometheus") // /actuator/prometheus
     implementation("org.springframework.boot:spring-boot-starter-webflux") // For MultipartBodyBuilder
+    implementation("io.projectreactor.netty:reactor-netty-http") // Pooled downstream HTTP clients
 
     // JWT support
     implementation("io.jsonwebtoken:jjwt-api:0.12.5")
@@ -17,3 +20,8 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
 }
+
+tasks.test {
+    // Smaller than the 200 MB body ApplicationsProxyStreamingTest relays, so buffering it fails the test
+    maxHeapSize = "128m"
+}
@@ -1,23 +1,43 @@
 package edu.columbia.corefellowship.gateway;
 
+import edu.columbia.corefellowship.gateway.config.DownstreamClientFactory;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/v1")
 public class ApplicationsProxyController {
 
+  // Entity headers copied from applications-service in pass-through mode
+  private static final List<String> PASSTHROUGH_HEADERS = List.of(
+      HttpHeaders.CONTENT_TYPE,
+      HttpHeaders.CONTENT_LENGTH,
+      HttpHeaders.CONTENT_DISPOSITION,
+      HttpHeaders.CONTENT_ENCODING,
+      HttpHeaders.VARY
+  );
+
+  private final String baseUrl;
   private final RestClient client;
 
-  public ApplicationsProxyController(@Value("${services.applications.baseUrl}") String baseUrl) {
-    this.client = RestClient.builder().baseUrl(baseUrl).build();
+  public ApplicationsProxyController(@Value("${services.applications.baseUrl}") String baseUrl,
+                                     DownstreamClientFactory clientFactory) {
+    this.baseUrl = baseUrl;
+    this.client = clientFactory.create("applications", baseUrl);
   }
 
   /**
@@ -79,32 +99,39 @@ public class ApplicationsProxyController {
   }
 
   @GetMapping("/students/applications")
-  public ResponseEntity<Object> getStudentApplications(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
+  public void getStudentApplications(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/students/applications", request, response);
+  }
 
-    StringBuilder uri = new StringBuilder("/v1/students/applications?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
+  @GetMapping("/students/applications/{id}")
+  public void getStudentApplication(
+      @PathVariable String id,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/students/applications/" + id, request, response);
+  }
 
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
+  @PatchMapping("/students/applications/bulk/status")
+  public ResponseEntity<Object> bulkUpdateStudentApplicationStatus(
+      @RequestBody Map<String, Object> body,
+      HttpServletRequest request) {
+    RestClient.RequestBodySpec spec = client.patch().uri("/v1/students/applications/bulk/status");
+    ResponseEntity<String> response = addUserHeadersToBody(spec, request)
+        .body(body)
         .retrieve()
         .toEntity(String.class);
     return forwardResponse(response);
   }
 
-  @GetMapping("/students/applications/{id}")
-  public ResponseEntity<Object> getStudentApplication(
-      @PathVariable String id,
+  @PatchMapping("/startups/bulk/status")
+  public ResponseEntity<Object> bulkUpdateStartupStatus(
+      @RequestBody Map<String, Object> body,
       HttpServletRequest request) {
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri("/v1/students/applications/" + id), request)
+    RestClient.RequestBodySpec spec = client.patch().uri("/v1/startups/bulk/status");
+    ResponseEntity<String> response = addUserHeadersToBody(spec, request)
+        .body(body)
         .retrieve()
         .toEntity(String.class);
     return forwardResponse(response);
@@ -126,51 +153,45 @@ public class ApplicationsProxyController {
   @PostMapping("/students/applications/{id}/resume")
   public ResponseEntity<Object> uploadResume(
       @PathVariable String id,
-      @RequestParam("file") MultipartFile file,
-      HttpServletRequest request) {
+      HttpServletRequest request) throws IOException {
 
-    // Forward multipart file upload to applications-service
-    // Note: RestClient doesn't support multipart easily, so we use a workaround
-    // by forwarding the request headers and using Spring's built-in multipart handling
-
-    String userId = (String) request.getAttribute("X-User-Id");
-    String userRole = (String) request.getAttribute("X-User-Role");
-    String userEmail = (String) request.getAttribute("X-User-Email");
+    // Forward the multipart body to applications-service as-is. Multipart parsing is
+    // disabled in the gateway, so the file is piped through without being buffered here.
+    String contentType = request.getContentType();
+    if (contentType == null || !contentType.toLowerCase().startsWith("multipart/form-data")) {
+      return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+    }
 
-    RestClient.RequestBodySpec spec = client.post()
-        .uri("/v1/students/applications/" + id + "/resume");
+    RestClient.RequestBodySpec spec = addUserHeadersToBody(
+        client.post().uri("/v1/students/applications/" + id + "/resume"), request)
+        .header(HttpHeaders.CONTENT_TYPE, contentType);
 
-    if (userId != null) {
-      spec = spec.header("X-User-Id", userId);
-    }
-    if (userRole != null) {
-      spec = spec.header("X-User-Role", userRole);
-    }
-    if (userEmail != null) {
-      spec = spec.header("X-User-Email", userEmail);
+    long contentLength = request.getContentLengthLong();
+    if (contentLength >= 0) {
+      spec = spec.contentLength(contentLength);
     }
 
-    // Forward the file as multipart
-    org.springframework.http.client.MultipartBodyBuilder builder =
-        new org.springframework.http.client.MultipartBodyBuilder();
-    builder.part("file", file.getResource());
-
+    InputStream body = request.getInputStream();
     ResponseEntity<String> response = spec
-        .body(builder.build())
+        .body(outputStream -> body.transferTo(outputStream))
         .retrieve()
         .toEntity(String.class);
     return forwardResponse(response);
   }
 
   @GetMapping("/students/applications/{id}/resume")
-  public ResponseEntity<Object> getResumeUrl(
+  public void getResumeUrl(
       @PathVariable String id,
-      HttpServletRequest request) {
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri("/v1/students/applications/" + id + "/resume"), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponse(response);
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/students/applications/" + id + "/resume", request, response);
+  }
+
+  @GetMapping("/students/applications/resume-urls")
+  public void getResumeUrls(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/students/applications/resume-urls", request, response);
   }
 
   // Startup Endpoints
@@ -187,134 +208,121 @@ public class ApplicationsProxyController {
   }
 
   @GetMapping("/startups")
-  public ResponseEntity<Object> getStartups(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
-
-    StringBuilder uri = new StringBuilder("/v1/startups?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
-
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponse(response);
+  public void getStartups(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/startups", request, response);
   }
 
   @GetMapping("/startups/{id}")
-  public ResponseEntity<Object> getStartup(
+  public void getStartup(
       @PathVariable String id,
-      HttpServletRequest request) {
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri("/v1/startups/" + id), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponse(response);
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/startups/" + id, request, response);
   }
 
   // Export Endpoints
   @GetMapping("/export/students.json")
-  public ResponseEntity<Object> exportStudentsJson(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
-
-    StringBuilder uri = new StringBuilder("/v1/export/students.json?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
-
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponse(response);
+  public void exportStudentsJson(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/students.json", request, response);
   }
 
   @GetMapping("/export/students.csv")
-  public ResponseEntity<String> exportStudentsCsv(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
-
-    StringBuilder uri = new StringBuilder("/v1/export/students.csv?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
+  public void exportStudentsCsv(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/students.csv", request, response);
+  }
 
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponseString(response);
+  @GetMapping("/export/students.ndjson")
+  public void exportStudentsNdjson(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/students.ndjson", request, response);
   }
 
   @GetMapping("/export/startups.json")
-  public ResponseEntity<Object> exportStartupsJson(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
-
-    StringBuilder uri = new StringBuilder("/v1/export/startups.json?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
-
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponse(response);
+  public void exportStartupsJson(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/startups.json", request, response);
   }
 
   @GetMapping("/export/startups.csv")
-  public ResponseEntity<String> exportStartupsCsv(
-      @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status,
-      HttpServletRequest request) {
+  public void exportStartupsCsv(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/startups.csv", request, response);
+  }
 
-    StringBuilder uri = new StringBuilder("/v1/export/startups.csv?");
-    if (term != null) {
-      uri.append("term=").append(term).append("&");
-    }
-    if (status != null) {
-      uri.append("status=").append(status);
-    }
+  @GetMapping("/export/startups.ndjson")
+  public void exportStartupsNdjson(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/export/startups.ndjson", request, response);
+  }
 
-    RestClient.RequestHeadersUriSpec<?> spec = client.get();
-    ResponseEntity<String> response = addUserHeadersToGet(spec.uri(uri.toString()), request)
-        .retrieve()
-        .toEntity(String.class);
-    return forwardResponseString(response);
+  // Dashboard Stats Endpoints
+  @GetMapping("/stats/status-counts")
+  public void getStatusCounts(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/stats/status-counts", request, response);
   }
 
-  private ResponseEntity<Object> forwardResponse(ResponseEntity<String> response) {
-    HttpHeaders headers = new HttpHeaders();
-    if (response.getHeaders().getContentType() != null) {
-      headers.setContentType(response.getHeaders().getContentType());
+  @GetMapping("/stats/interview-rankings")
+  public void getInterviewRankings(
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    proxyStream("/v1/stats/interview-rankings", request, response);
+  }
+
+  /**
+   * Pipes a GET response from applications-service straight to the client.
+   *
+   * The status and entity headers are copied over and the body bytes are streamed as
+   * they arrive, without decoding them into a String first, so multi-megabyte exports
+   * cost constant memory in the gateway. Downstream 4xx/5xx responses are passed
+   * through the same way.
+   *
+   * The query string is forwarded exactly as the client encoded it. The URI is never run
+   * through the URI template expansion, which would choke on '{' and '}' in a value and
+   * leave a literal '+' to be read as a space.
+   */
+  private void proxyStream(String path, HttpServletRequest request, HttpServletResponse response) {
+    String query = request.getQueryString();
+    URI uri = URI.create(baseUrl + UriUtils.encodePath(path, StandardCharsets.UTF_8)
+        + (query != null ? "?" + query : ""));
+    RestClient.RequestHeadersSpec<?> spec = addUserHeadersToGet(client.get().uri(uri), request);
+
+    // Let the client and applications-service negotiate compression end to end
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding != null) {
+      spec = spec.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
     }
-    return ResponseEntity
-        .status(response.getStatusCode())
-        .headers(headers)
-        .body(response.getBody());
+
+    spec.exchange((clientRequest, upstream) -> {
+      response.setStatus(upstream.getStatusCode().value());
+      HttpHeaders upstreamHeaders = upstream.getHeaders();
+      for (String name : PASSTHROUGH_HEADERS) {
+        List<String> values = upstreamHeaders.get(name);
+        if (values != null) {
+          values.forEach(value -> response.addHeader(name, value));
+        }
+      }
+
+      try (InputStream body = upstream.getBody()) {
+        body.transferTo(response.getOutputStream());
+      }
+      response.flushBuffer();
+      return null;
+    });
   }
 
-  private ResponseEntity<String> forwardResponseString(ResponseEntity<String> response) {
+  private ResponseEntity<Object> forwardResponse(ResponseEntity<String> response) {
     HttpHeaders headers = new HttpHeaders();
     if (response.getHeaders().getContentType() != null) {
       headers.setContentType(response.getHeaders().getContentType());
@@ -1,13 +1,29 @@
 package edu.columbia.corefellowship.gateway;
 
+import edu.columbia.corefellowship.gateway.config.DownstreamClientFactory;
 import java.util.Map;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class HealthController {
+
+  private final DownstreamClientFactory clientFactory;
+
+  public HealthController(DownstreamClientFactory clientFactory) {
+    this.clientFactory = clientFactory;
+  }
+
   @GetMapping("/health")
   public Map<String, Object> health() {
     return Map.of("status", "ok", "service", "api-gateway");
   }
+
+  /**
+   * Connection pool usage for each downstream service (admin only).
+   */
+  @GetMapping("/v1/gateway/pools")
+  public Map<String, Map<String, Integer>> downstreamPools() {
+    return clientFactory.poolStats();
+  }
 }
@@ -2,6 +2,9 @@ package edu.columbia.corefellowship.gateway;
 
 import java.util.Map;
 
+import edu.columbia.corefellowship.gateway.config.DownstreamClientFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -16,10 +19,13 @@ import org.springframework.web.client.HttpServerErrorException;
 @RestController
 public class IdentityProxyController {
 
+  private static final Logger log = LoggerFactory.getLogger(IdentityProxyController.class);
+
   private final RestClient client;
 
-  public IdentityProxyController(@Value("${services.identity.baseUrl}") String baseUrl) {
-    this.client = RestClient.builder().baseUrl(baseUrl).build();
+  public IdentityProxyController(@Value("${services.identity.baseUrl}") String baseUrl,
+                                 DownstreamClientFactory clientFactory) {
+    this.client = clientFactory.create("identity", baseUrl);
   }
 
   @GetMapping("/v1/identity/health")
@@ -33,7 +39,6 @@ public class IdentityProxyController {
    */
   @PostMapping("/v1/auth/register")
   public ResponseEntity<Object> register(@RequestBody Map<String, Object> request) {
-    System.out.println(">>> IdentityProxyController.register called");
     try {
       ResponseEntity<String> response = client.post()
           .uri("/api/auth/register")
@@ -42,8 +47,7 @@ public class IdentityProxyController {
           .toEntity(String.class);
       return forwardResponse(response);
     } catch (HttpClientErrorException | HttpServerErrorException ex) {
-      System.out.println(">>> IdentityProxyController.register downstream status "
-          + ex.getStatusCode() + " body=" + ex.getResponseBodyAsString());
+      log.debug("register downstream status {} body={}", ex.getStatusCode(), ex.getResponseBodyAsString());
       throw ex;
     }
   }
@@ -54,7 +58,6 @@ public class IdentityProxyController {
    */
   @PostMapping("/v1/auth/login")
   public ResponseEntity<Object> login(@RequestBody Map<String, Object> request) {
-    System.out.println(">>> IdentityProxyController.login called");
     try {
       ResponseEntity<String> response = client.post()
           .uri("/api/auth/login")
@@ -63,8 +66,7 @@ public class IdentityProxyController {
           .toEntity(String.class);
       return forwardResponse(response);
     } catch (HttpClientErrorException | HttpServerErrorException ex) {
-      System.out.println(">>> IdentityProxyController.login downstream status "
-          + ex.getStatusCode() + " body=" + ex.getResponseBodyAsString());
+      log.debug("login downstream status {} body={}", ex.getStatusCode(), ex.getResponseBodyAsString());
       throw ex;
     }
   }
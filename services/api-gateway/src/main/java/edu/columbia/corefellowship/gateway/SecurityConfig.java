@@ -3,6 +3,8 @@ package edu.columbia.corefellowship.gateway;
 import edu.columbia.corefellowship.gateway.security.JwtAuthenticationFilter;
 import edu.columbia.corefellowship.gateway.util.JwtUtil;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -35,6 +37,8 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+  private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
   private static OncePerRequestFilter chainMarkerFilter(String chainName) {
     return new OncePerRequestFilter() {
       @Override
@@ -53,7 +57,7 @@ public class SecurityConfig {
           throws ServletException, IOException {
         filterChain.doFilter(request, response);
         response.setHeader("X-Post-Chain-Status", String.valueOf(response.getStatus()));
-        System.out.println(">>> " + chainName + " CHAIN RESPONSE " + response.getStatus() + " " + request.getMethod() + " " + request.getRequestURI());
+        log.debug("{} chain response {} {} {}", chainName, response.getStatus(), request.getMethod(), request.getRequestURI());
       }
     };
   }
@@ -62,11 +66,14 @@ public class SecurityConfig {
     return new OrRequestMatcher(
         new AntPathRequestMatcher("/v1/auth/**"),
         new AntPathRequestMatcher("/v1/identity/health"),
-        new AntPathRequestMatcher("/health")
+        new AntPathRequestMatcher("/health"),
+        // Served on the management port (not reachable through the public listener)
+        new AntPathRequestMatcher("/actuator/health/**"),
+        new AntPathRequestMatcher("/actuator/prometheus")
     );
   }
 
-  // Public endpoints chain - handles /v1/auth/** and /health without JWT
+  // Public endpoints chain - handles /v1/auth/**, /health and the scrape endpoints without JWT
   @Bean
   @Order(1)
   public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -82,13 +89,13 @@ public class SecurityConfig {
       )
       .exceptionHandling(ex -> ex
         .authenticationEntryPoint((req, res, e) -> {
-          System.out.println(">>> PUBLIC CHAIN ENTRYPOINT (401) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Public chain entrypoint (401) {}: {}", e.getClass().getName(), e.getMessage());
           res.addHeader("X-Security-Error", "public-entrypoint");
           res.addHeader("X-Security-Error-Class", e.getClass().getName());
           res.sendError(HttpServletResponse.SC_UNAUTHORIZED);
         })
         .accessDeniedHandler((req, res, e) -> {
-          System.out.println(">>> PUBLIC CHAIN ACCESS DENIED (403) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Public chain access denied (403) {}: {}", e.getClass().getName(), e.getMessage());
           res.addHeader("X-Security-Error", "public-access-denied");
           res.addHeader("X-Security-Error-Class", e.getClass().getName());
           res.sendError(HttpServletResponse.SC_FORBIDDEN);
@@ -115,7 +122,10 @@ public class SecurityConfig {
         .requestMatchers("/v1/auth/**", "/v1/identity/health", "/health").permitAll()
         // Admin-only endpoints
         .requestMatchers("/v1/export/**").hasRole("ADMIN")
+        .requestMatchers("/v1/stats/**").hasRole("ADMIN")
+        .requestMatchers("/v1/gateway/**").hasRole("ADMIN")
         .requestMatchers("/v1/students/applications/*/status").hasRole("ADMIN")
+        .requestMatchers("/v1/students/applications/resume-urls").hasRole("ADMIN")
         .requestMatchers("/v1/startups/*/status").hasRole("ADMIN")
         // All other endpoints require authentication
         .anyRequest().authenticated()
@@ -125,11 +135,11 @@ public class SecurityConfig {
       )
       .exceptionHandling(ex -> ex
         .authenticationEntryPoint((req, res, e) -> {
-          System.out.println(">>> PROTECTED CHAIN ENTRYPOINT (401) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Protected chain entrypoint (401) {}: {}", e.getClass().getName(), e.getMessage());
           res.sendError(HttpServletResponse.SC_UNAUTHORIZED);
         })
         .accessDeniedHandler((req, res, e) -> {
-          System.out.println(">>> PROTECTED CHAIN ACCESS DENIED (403) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Protected chain access denied (403) {}: {}", e.getClass().getName(), e.getMessage());
           res.sendError(HttpServletResponse.SC_FORBIDDEN);
         })
       )
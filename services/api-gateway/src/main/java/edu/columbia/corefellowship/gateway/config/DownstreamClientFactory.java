@@ -0,0 +1,127 @@
+package edu.columbia.corefellowship.gateway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Builds the RestClients the gateway uses to reach downstream services.
+ *
+ * Every client is backed by a bounded Reactor Netty connection pool with keep-alive,
+ * connect/read timeouts and a capped wait queue. When a service is slow its pool fills
+ * up and further requests fail fast with a ResourceAccessException instead of piling
+ * up on gateway threads.
+ */
+@Component
+public class DownstreamClientFactory {
+
+  private final DownstreamClientProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final List<ConnectionProvider> providers = new CopyOnWriteArrayList<>();
+  private final Map<String, ConnectionPoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+
+  public DownstreamClientFactory(DownstreamClientProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Create a pooled client for the named downstream service.
+   *
+   * @param service "identity" or "applications"
+   * @param baseUrl base URL of the service
+   */
+  public RestClient create(String service, String baseUrl) {
+    DownstreamClientProperties.Client settings = settingsFor(service);
+
+    ConnectionProvider provider = ConnectionProvider.builder("downstream-" + service)
+        .maxConnections(settings.getMaxConnections())
+        .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(settings.getPendingAcquireTimeout())
+        .maxIdleTime(settings.getMaxIdleTime())
+        .metrics(true, () -> (poolName, id, remoteAddress, metrics) ->
+            poolMetrics.put(poolName + " " + remoteAddress, metrics))
+        .build();
+    providers.add(provider);
+
+    HttpClient httpClient = HttpClient.create(provider)
+        .keepAlive(true)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis());
+    if (Boolean.TRUE.equals(settings.getH2c())) {
+      // Cleartext HTTP/2 with upgrade, falling back to HTTP/1.1 if the service does not speak it
+      httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(settings.getReadTimeout());
+
+    return RestClient.builder()
+        .baseUrl(baseUrl)
+        .requestFactory(requestFactory)
+        .requestInterceptor((request, body, execution) -> {
+          // Time to response headers; streamed bodies are relayed after this returns
+          Timer.Sample sample = Timer.start(meterRegistry);
+          String status = "IO_ERROR";
+          try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+          } finally {
+            sample.stop(Timer.builder("gateway.downstream.requests")
+                .description("Gateway calls to downstream services")
+                .tag("service", service)
+                .tag("method", request.getMethod().name())
+                .tag("status", status)
+                .register(meterRegistry));
+          }
+        })
+        .build();
+  }
+
+  /**
+   * Current state of every downstream connection pool, keyed by pool name and remote address.
+   */
+  public Map<String, Map<String, Integer>> poolStats() {
+    Map<String, Map<String, Integer>> stats = new LinkedHashMap<>();
+    poolMetrics.forEach((pool, metrics) -> {
+      Map<String, Integer> values = new LinkedHashMap<>();
+      values.put("acquired", metrics.acquiredSize());
+      values.put("idle", metrics.idleSize());
+      values.put("allocated", metrics.allocatedSize());
+      values.put("maxConnections", metrics.maxAllocatedSize());
+      values.put("pendingAcquire", metrics.pendingAcquireSize());
+      values.put("maxPendingAcquire", metrics.maxPendingAcquireSize());
+      stats.put(pool, values);
+    });
+    return stats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    providers.forEach(ConnectionProvider::dispose);
+  }
+
+  private DownstreamClientProperties.Client settingsFor(String service) {
+    return switch (service) {
+      case "identity" -> properties.getIdentity();
+      case "applications" -> properties.getApplications();
+      default -> throw new IllegalArgumentException("Unknown downstream service: " + service);
+    };
+  }
+}
@@ -0,0 +1,101 @@
+package edu.columbia.corefellowship.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings for gateway-to-service HTTP clients.
+ * Each downstream service gets its own pool so one slow service cannot starve the others.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "downstream")
+public class DownstreamClientProperties {
+
+  private Client identity = new Client();
+  private Client applications = new Client();
+
+  public Client getIdentity() {
+    return identity;
+  }
+
+  public void setIdentity(Client identity) {
+    this.identity = identity;
+  }
+
+  public Client getApplications() {
+    return applications;
+  }
+
+  public void setApplications(Client applications) {
+    this.applications = applications;
+  }
+
+  public static class Client {
+
+    private Integer maxConnections = 100;
+    private Integer pendingAcquireMaxCount = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Boolean h2c = false;
+
+    public Integer getMaxConnections() {
+      return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public Integer getPendingAcquireMaxCount() {
+      return pendingAcquireMaxCount;
+    }
+
+    public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+      this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+      return pendingAcquireTimeout;
+    }
+
+    public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+      this.pendingAcquireTimeout = pendingAcquireTimeout;
+    }
+
+    public Duration getConnectTimeout() {
+      return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+      this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+      return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+      this.readTimeout = readTimeout;
+    }
+
+    public Duration getMaxIdleTime() {
+      return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+    }
+
+    public Boolean getH2c() {
+      return h2c;
+    }
+
+    public void setH2c(Boolean h2c) {
+      this.h2c = h2c;
+    }
+  }
+}
@@ -10,6 +10,7 @@ public class JwtProperties {
   private String secret;
   private String issuer;
   private String audience;
+  private int cacheMaxEntries = 10000;
 
   public String getSecret() {
     return secret;
@@ -34,4 +35,12 @@ public class JwtProperties {
   public void setAudience(String audience) {
     this.audience = audience;
   }
+
+  public int getCacheMaxEntries() {
+    return cacheMaxEntries;
+  }
+
+  public void setCacheMaxEntries(int cacheMaxEntries) {
+    this.cacheMaxEntries = cacheMaxEntries;
+  }
 }
@@ -1,10 +1,13 @@
 package edu.columbia.corefellowship.gateway.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -30,4 +33,15 @@ public class GlobalExceptionHandler {
         .status(ex.getStatusCode())
         .body(ex.getResponseBodyAsString());
   }
-}
\ No newline at end of file
+
+  /**
+   * Handle downstream I/O failures: connect/read timeouts or an exhausted connection pool.
+   */
+  @ExceptionHandler(ResourceAccessException.class)
+  public ResponseEntity<String> handleResourceAccess(ResourceAccessException ex) {
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body("{\"error\":\"Downstream service unavailable\"}");
+  }
+}
@@ -6,6 +6,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,6 +30,8 @@ import java.util.Collections;
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+  private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
   private final JwtUtil jwtUtil;
 
   public JwtAuthenticationFilter(JwtUtil jwtUtil) {
@@ -45,14 +49,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // Skip filter for OPTIONS requests (CORS preflight)
     if ("OPTIONS".equalsIgnoreCase(method)) {
-      System.out.println("JwtFilter: Skipping OPTIONS request for " + path);
+      log.trace("Skipping OPTIONS request for {}", path);
       filterChain.doFilter(request, response);
       return;
     }
 
     // Skip filter for public auth endpoints
     if (path.startsWith("/v1/auth/") || path.equals("/health")) {
-      System.out.println("JwtFilter: Skipping auth endpoint " + path);
+      log.trace("Skipping auth endpoint {}", path);
       // Set anonymous authentication so Spring Security allows permitAll
       AnonymousAuthenticationToken anonymousAuth = new AnonymousAuthenticationToken(
           "anonymous", "anonymous", Collections.singletonList(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))
@@ -62,7 +66,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       return;
     }
 
-    System.out.println("JwtFilter: Processing " + method + " " + path);
+    log.trace("Processing {} {}", method, path);
 
     // Extract Authorization header
     String authHeader = request.getHeader("Authorization");
@@ -76,10 +80,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       // Extract token (remove "Bearer " prefix)
       String token = authHeader.substring(7);
 
-      // Validate token and extract claims
-      String userId = jwtUtil.extractUserId(token);
-      String role = jwtUtil.extractRole(token);
-      String email = jwtUtil.extractEmail(token);
+      // Validate token once and read the user context from the verified principal
+      JwtPrincipal principal = jwtUtil.verify(token);
+      String userId = principal.getUserId();
+      String role = principal.getRole();
+      String email = principal.getEmail();
 
       // Create Spring Security Authentication
       SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
@@ -0,0 +1,50 @@
+package edu.columbia.corefellowship.gateway.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a verified JWT.
+ *
+ * Produced once per token by JwtUtil.verify so the filter (and anything downstream)
+ * can read the user context without re-parsing or re-verifying the token.
+ */
+public final class JwtPrincipal {
+
+  private final String userId;
+  private final String email;
+  private final String role;
+  private final String userType;
+  private final Instant expiresAt;
+
+  public JwtPrincipal(String userId, String email, String role, String userType, Instant expiresAt) {
+    this.userId = userId;
+    this.email = email;
+    this.role = role;
+    this.userType = userType;
+    this.expiresAt = expiresAt;
+  }
+
+  public String getUserId() {
+    return userId;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public String getUserType() {
+    return userType;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public boolean isExpired(Instant now) {
+    return expiresAt != null && !now.isBefore(expiresAt);
+  }
+}
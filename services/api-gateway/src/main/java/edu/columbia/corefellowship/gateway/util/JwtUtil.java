@@ -1,25 +1,99 @@
 package edu.columbia.corefellowship.gateway.util;
 
 import edu.columbia.corefellowship.gateway.config.JwtProperties;
+import edu.columbia.corefellowship.gateway.security.JwtPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class JwtUtil {
 
-  private final JwtProperties jwtProperties;
-  private final SecretKey secretKey;
+  // How often a full cache may be scanned for expired tokens
+  static final Duration SWEEP_INTERVAL = Duration.ofSeconds(30);
 
-  public JwtUtil(JwtProperties jwtProperties) {
-    this.jwtProperties = jwtProperties;
-    this.secretKey = Keys.hmacShaKeyFor(
+  private final JwtParser parser;
+  private final Clock clock;
+  private final int cacheMaxEntries;
+  private final Map<String, JwtPrincipal> verifiedCache = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweepAt = new AtomicLong();
+  private final Timer verifyTimer;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  public JwtUtil(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+    this(jwtProperties, Clock.systemUTC(), meterRegistry);
+  }
+
+  JwtUtil(JwtProperties jwtProperties, Clock clock, MeterRegistry meterRegistry) {
+    SecretKey secretKey = Keys.hmacShaKeyFor(
         jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
     );
+    // The parser is immutable and thread-safe, so build it once instead of per call
+    this.parser = Jwts.parser()
+        .verifyWith(secretKey)
+        .requireIssuer(jwtProperties.getIssuer())
+        .requireAudience(jwtProperties.getAudience())
+        .build();
+    this.clock = clock;
+    this.cacheMaxEntries = jwtProperties.getCacheMaxEntries();
+    this.verifyTimer = Timer.builder("gateway.jwt.verify")
+        .description("JWT signature and claims verification (cache misses only)")
+        .register(meterRegistry);
+    this.cacheHits = Counter.builder("gateway.jwt.cache").tag("result", "hit").register(meterRegistry);
+    this.cacheMisses = Counter.builder("gateway.jwt.cache").tag("result", "miss").register(meterRegistry);
+  }
+
+  /**
+   * Verifies the token once and returns the user context it carries.
+   *
+   * Tokens that were already verified are served from a bounded cache keyed by the
+   * SHA-256 digest of the token, so repeat requests skip signature verification.
+   * Cached entries are dropped once the token's exp is reached.
+   *
+   * @param token JWT token string
+   * @return immutable principal built from the token claims
+   * @throws io.jsonwebtoken.JwtException if validation fails
+   */
+  public JwtPrincipal verify(String token) {
+    if (cacheMaxEntries <= 0) {
+      return toPrincipal(timedValidate(token));
+    }
+
+    Instant now = clock.instant();
+    String key = digest(token);
+    JwtPrincipal cached = verifiedCache.get(key);
+    if (cached != null) {
+      if (!cached.isExpired(now)) {
+        cacheHits.increment();
+        return cached;
+      }
+      // Expired - evict and fall through so the parser raises ExpiredJwtException
+      verifiedCache.remove(key, cached);
+    }
+
+    cacheMisses.increment();
+    JwtPrincipal principal = toPrincipal(timedValidate(token));
+    cache(key, principal, now);
+    return principal;
   }
 
   /**
@@ -30,13 +104,7 @@ public class JwtUtil {
    * @throws io.jsonwebtoken.JwtException if validation fails
    */
   public Claims validateToken(String token) {
-    return Jwts.parser()
-        .verifyWith(secretKey)
-        .requireIssuer(jwtProperties.getIssuer())
-        .requireAudience(jwtProperties.getAudience())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 
   /**
@@ -46,8 +114,7 @@ public class JwtUtil {
    * @return userId (MongoDB ObjectId as string)
    */
   public String extractUserId(String token) {
-    Claims claims = validateToken(token);
-    return claims.getSubject();
+    return verify(token).getUserId();
   }
 
   /**
@@ -57,8 +124,7 @@ public class JwtUtil {
    * @return role string (e.g., "ROLE_USER", "ROLE_ADMIN")
    */
   public String extractRole(String token) {
-    Claims claims = validateToken(token);
-    return claims.get("role", String.class);
+    return verify(token).getRole();
   }
 
   /**
@@ -68,8 +134,7 @@ public class JwtUtil {
    * @return email string
    */
   public String extractEmail(String token) {
-    Claims claims = validateToken(token);
-    return claims.get("email", String.class);
+    return verify(token).getEmail();
   }
 
   /**
@@ -79,7 +144,71 @@ public class JwtUtil {
    * @return userType string (e.g., "STUDENT", "STARTUP", "ADMIN")
    */
   public String extractUserType(String token) {
-    Claims claims = validateToken(token);
-    return claims.get("userType", String.class);
+    return verify(token).getUserType();
+  }
+
+  /**
+   * Number of verified tokens currently held in the cache.
+   */
+  public int cachedTokenCount() {
+    return verifiedCache.size();
+  }
+
+  private Claims timedValidate(String token) {
+    // Failed verifications are recorded too; they cost the same signature check
+    return verifyTimer.record(() -> validateToken(token));
+  }
+
+  private void cache(String key, JwtPrincipal principal, Instant now) {
+    // Tokens without exp are never cached - there is no point at which to evict them
+    if (principal.getExpiresAt() == null) {
+      return;
+    }
+    if (verifiedCache.size() >= cacheMaxEntries) {
+      sweepExpired(now);
+      if (verifiedCache.size() >= cacheMaxEntries) {
+        // Still full of live tokens - serve this one uncached rather than grow unbounded
+        return;
+      }
+    }
+    verifiedCache.put(key, principal);
+  }
+
+  /**
+   * Drop expired tokens from a full cache, at most once per SWEEP_INTERVAL.
+   *
+   * The scan is O(cache size), so running it on every miss would make a cache full of
+   * live tokens cost a full scan per request. Between sweeps a miss on a full cache is
+   * simply served uncached; expired entries that are looked up are evicted on the spot.
+   */
+  private void sweepExpired(Instant now) {
+    long due = nextSweepAt.get();
+    long nowMillis = now.toEpochMilli();
+    // One caller per interval wins the CAS and sweeps; everyone else moves on
+    if (nowMillis < due || !nextSweepAt.compareAndSet(due, nowMillis + SWEEP_INTERVAL.toMillis())) {
+      return;
+    }
+    verifiedCache.values().removeIf(entry -> entry.isExpired(now));
+  }
+
+  private static JwtPrincipal toPrincipal(Claims claims) {
+    Date expiration = claims.getExpiration();
+    return new JwtPrincipal(
+        claims.getSubject(),
+        claims.get("email", String.class),
+        claims.get("role", String.class),
+        claims.get("userType", String.class),
+        expiration != null ? expiration.toInstant() : null
+    );
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is mandatory on every JRE
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
   }
 }
@@ -0,0 +1,163 @@
+package edu.columbia.corefellowship.gateway;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The applications proxy against a stub applications-service: bodies are relayed without
+ * being held in the gateway's heap, and query strings arrive upstream exactly as sent.
+ *
+ * The test JVM runs with a heap smaller than the relayed body (see build.gradle.kts), so
+ * buffering it anywhere on the way fails with an OutOfMemoryError.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "jwt.secret=" + ApplicationsProxyStreamingTest.SECRET,
+    "jwt.issuer=core-fellowship-test",
+    "jwt.audience=core-fellowship-test",
+    "management.server.port=0"
+})
+class ApplicationsProxyStreamingTest {
+
+  static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+  private static final long BODY_SIZE = 200L * 1024 * 1024;
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  private static final AtomicReference<String> upstreamQuery = new AtomicReference<>();
+  private static final HttpServer upstream = startUpstream();
+
+  @LocalServerPort
+  private int port;
+
+  @DynamicPropertySource
+  static void applicationsService(DynamicPropertyRegistry registry) {
+    registry.add("services.applications.baseUrl",
+        () -> "http://localhost:" + upstream.getAddress().getPort());
+  }
+
+  @AfterAll
+  static void stopUpstream() {
+    upstream.stop(0);
+  }
+
+  @Test
+  void relaysA200MegabyteExportWithoutBufferingIt() throws Exception {
+    assumeTrue(Runtime.getRuntime().maxMemory() < BODY_SIZE, "needs a heap smaller than the body");
+
+    HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+        get("/v1/export/students.csv"), HttpResponse.BodyHandlers.ofInputStream());
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.headers().firstValue("Content-Type")).hasValue("text/csv");
+
+    long received = 0;
+    long firstMismatch = -1;
+    byte[] buffer = new byte[CHUNK_SIZE];
+    try (InputStream body = response.body()) {
+      int read;
+      while ((read = body.read(buffer)) > 0) {
+        for (int i = 0; i < read && firstMismatch < 0; i++) {
+          if (buffer[i] != patternByte(received + i)) {
+            firstMismatch = received + i;
+          }
+        }
+        received += read;
+      }
+    }
+    assertThat(received).isEqualTo(BODY_SIZE);
+    assertThat(firstMismatch).as("offset of the first corrupted byte").isEqualTo(-1);
+  }
+
+  @Test
+  void forwardsTheQueryStringVerbatim() throws Exception {
+    String query = "term=%7Bx%7D&q=a+b%2Bc&status=under_review&status=submitted";
+
+    HttpResponse<String> response = HttpClient.newHttpClient().send(
+        get("/v1/students/applications?" + query), HttpResponse.BodyHandlers.ofString());
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(upstreamQuery.get()).isEqualTo(query);
+  }
+
+  private HttpRequest get(String pathAndQuery) {
+    String token = Jwts.builder()
+        .subject("000000000000000000000001")
+        .claim("email", "admin@columbia.edu")
+        .claim("role", "ROLE_ADMIN")
+        .claim("userType", "ADMIN")
+        .issuer("core-fellowship-test")
+        .audience().add("core-fellowship-test").and()
+        .expiration(Date.from(Instant.now().plusSeconds(600)))
+        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .compact();
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathAndQuery))
+        .header("Authorization", "Bearer " + token)
+        .GET()
+        .build();
+  }
+
+  private static HttpServer startUpstream() {
+    try {
+      HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      server.createContext("/v1/export/students.csv", ApplicationsProxyStreamingTest::streamExport);
+      server.createContext("/v1/students/applications", exchange -> {
+        upstreamQuery.set(exchange.getRequestURI().getRawQuery());
+        byte[] body = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      });
+      server.start();
+      return server;
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A chunked body generated on the fly, so the stub never holds more than one chunk either.
+   */
+  private static void streamExport(HttpExchange exchange) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "text/csv");
+    exchange.sendResponseHeaders(200, 0);
+    byte[] chunk = new byte[CHUNK_SIZE];
+    try (OutputStream out = exchange.getResponseBody()) {
+      for (long offset = 0; offset < BODY_SIZE; offset += CHUNK_SIZE) {
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+          chunk[i] = patternByte(offset + i);
+        }
+        out.write(chunk);
+      }
+    }
+  }
+
+  private static byte patternByte(long position) {
+    return (byte) (position % 251);
+  }
+}
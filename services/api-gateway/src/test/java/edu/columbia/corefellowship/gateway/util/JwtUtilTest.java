@@ -0,0 +1,115 @@
+package edu.columbia.corefellowship.gateway.util;
+
+import edu.columbia.corefellowship.gateway.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Eviction of the verified-token cache once it is full.
+ *
+ * The cache compares exp with the injected clock, while the parser still checks it against
+ * the real time, so every token expires in the real future and the clock is moved past it.
+ */
+class JwtUtilTest {
+
+  private static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+  private final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+  private final MutableClock clock = new MutableClock(start);
+  private int issued;
+
+  @Test
+  void fullCacheDropsExpiredTokensToMakeRoom() {
+    JwtUtil jwtUtil = jwtUtil(2);
+    jwtUtil.verify(token(start.plus(Duration.ofMinutes(10))));
+    jwtUtil.verify(token(start.plus(Duration.ofMinutes(10))));
+
+    // Full of live tokens: served, but not cached
+    jwtUtil.verify(token(start.plus(Duration.ofHours(1))));
+    assertThat(jwtUtil.cachedTokenCount()).isEqualTo(2);
+
+    clock.set(start.plus(Duration.ofMinutes(20)));
+    jwtUtil.verify(token(start.plus(Duration.ofHours(1))));
+    assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+  }
+
+  @Test
+  void fullCacheIsSweptAtMostOncePerInterval() {
+    JwtUtil jwtUtil = jwtUtil(2);
+    jwtUtil.verify(token(start.plusSeconds(10)));
+    jwtUtil.verify(token(start.plusSeconds(10)));
+    // Sweeps, finds nothing expired yet
+    jwtUtil.verify(token(start.plus(Duration.ofHours(1))));
+
+    clock.set(start.plusSeconds(20));
+    jwtUtil.verify(token(start.plus(Duration.ofHours(1))));
+    assertThat(jwtUtil.cachedTokenCount()).isEqualTo(2);
+
+    clock.set(start.plus(JwtUtil.SWEEP_INTERVAL).plusSeconds(1));
+    jwtUtil.verify(token(start.plus(Duration.ofHours(1))));
+    assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+  }
+
+  private JwtUtil jwtUtil(int cacheMaxEntries) {
+    JwtProperties properties = new JwtProperties();
+    properties.setSecret(SECRET);
+    properties.setIssuer("core-fellowship-test");
+    properties.setAudience("core-fellowship-test");
+    properties.setCacheMaxEntries(cacheMaxEntries);
+    return new JwtUtil(properties, clock, new SimpleMeterRegistry());
+  }
+
+  private String token(Instant expiresAt) {
+    return Jwts.builder()
+        .subject("user-" + ++issued)
+        .claim("email", "user@columbia.edu")
+        .claim("role", "ROLE_USER")
+        .claim("userType", "STUDENT")
+        .issuer("core-fellowship-test")
+        .audience().add("core-fellowship-test").and()
+        .expiration(Date.from(expiresAt))
+        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .compact();
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private volatile Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void set(Instant now) {
+      this.now = now;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -7,6 +7,8 @@ plugins {
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("io.micrometer:micrometer-registry-prometheus") // /actuator/prometheus
     implementation("org.springframework.boot:spring-boot-starter-data-mongodb")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
@@ -15,4 +17,11 @@ dependencies {
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
-}
\ No newline at end of file
+    testImplementation("de.flapdoodle.embed:de.flapdoodle.embed.mongo:4.16.1") // Throwaway mongod for integration tests
+    testImplementation("com.google.cloud:google-cloud-nio:0.127.8") // LocalStorageHelper, an in-memory Storage
+}
+
+// Local runs use the dev profile unless SPRING_PROFILES_ACTIVE says otherwise
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    systemProperty("spring.profiles.active", System.getenv("SPRING_PROFILES_ACTIVE") ?: "dev")
+}
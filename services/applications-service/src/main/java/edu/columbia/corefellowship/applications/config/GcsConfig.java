@@ -1,8 +1,10 @@
 package edu.columbia.corefellowship.applications.config;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.NoCredentials;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +14,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
 public class GcsConfig {
 
   private final GcsProperties gcsProperties;
@@ -22,6 +25,17 @@ public class GcsConfig {
 
   @Bean
   public Storage storage() throws IOException {
+    String emulatorHost = gcsProperties.getEmulatorHost();
+    if (emulatorHost != null && !emulatorHost.isBlank()) {
+      // Local GCS stand-in (fake-gcs-server) - no credentials needed
+      return StorageOptions.newBuilder()
+          .setHost(emulatorHost)
+          .setProjectId(gcsProperties.getProjectId())
+          .setCredentials(NoCredentials.getInstance())
+          .build()
+          .getService();
+    }
+
     GoogleCredentials credentials;
 
     // Check if credentials JSON is provided as environment variable (for Cloud Run)
@@ -10,6 +10,8 @@ public class GcsProperties {
   private String bucketName;
   private String credentialsPath;
   private String projectId;
+  private Integer uploadChunkSize = 256 * 1024;
+  private String emulatorHost;
 
   public String getBucketName() {
     return bucketName;
@@ -34,4 +36,20 @@ public class GcsProperties {
   public void setProjectId(String projectId) {
     this.projectId = projectId;
   }
-}
\ No newline at end of file
+
+  public Integer getUploadChunkSize() {
+    return uploadChunkSize;
+  }
+
+  public void setUploadChunkSize(Integer uploadChunkSize) {
+    this.uploadChunkSize = uploadChunkSize;
+  }
+
+  public String getEmulatorHost() {
+    return emulatorHost;
+  }
+
+  public void setEmulatorHost(String emulatorHost) {
+    this.emulatorHost = emulatorHost;
+  }
+}
@@ -0,0 +1,107 @@
+package edu.columbia.corefellowship.applications.config;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.ReplaceOptions;
+import edu.columbia.corefellowship.applications.model.Interview;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.client.model.Accumulators.push;
+import static com.mongodb.client.model.Accumulators.sum;
+import static com.mongodb.client.model.Aggregates.group;
+import static com.mongodb.client.model.Aggregates.match;
+import static com.mongodb.client.model.Aggregates.sort;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Sorts.descending;
+
+/**
+ * Index changes that have to be applied before auto-index-creation builds the indexes
+ * declared on the models.
+ *
+ * Mongo refuses to create an index whose name or key pattern is already taken with other
+ * options, and Spring Data turns that into a startup failure. An existing index that gains
+ * an option is therefore changed in place here, after clearing data it would reject, so
+ * the declared index already matches when Spring Data gets to it. Each step checks the
+ * current indexes and does nothing once applied, so all of them run on every start.
+ */
+final class IndexMigrations {
+
+  private static final Logger log = LoggerFactory.getLogger(IndexMigrations.class);
+
+  static final String INTERVIEW_DUPLICATES = "interviews_duplicates";
+
+  private final MongoDatabase database;
+
+  IndexMigrations(MongoDatabase database) {
+    this.database = database;
+  }
+
+  void run() {
+    uniqueInterviewPerApplication();
+  }
+
+  /**
+   * Interview.applicationId used to be a plain index and is now unique. The existing index
+   * is converted with collMod: prepareUnique first, so no new duplicate gets in, then the
+   * applications that already have more than one interview keep the most recently updated
+   * one (the others are moved to interviews_duplicates, not deleted), then unique. The
+   * index stays in place throughout.
+   */
+  private void uniqueInterviewPerApplication() {
+    MongoCollection<Document> interviews = database.getCollection("interviews");
+    Document index = index(interviews, Interview.APPLICATION_ID_INDEX);
+    if (index == null || index.getBoolean("unique", false)) {
+      // A fresh database gets the unique index from auto-index-creation
+      return;
+    }
+    collMod(Interview.APPLICATION_ID_INDEX, "prepareUnique");
+
+    List<Document> duplicated = interviews.aggregate(List.of(
+            sort(descending("updatedAt", "_id")),
+            group("$applicationId", push("ids", "$_id"), sum("count", 1)),
+            match(gt("count", 1))))
+        .allowDiskUse(true)
+        .into(new ArrayList<>());
+
+    MongoCollection<Document> archive = database.getCollection(INTERVIEW_DUPLICATES);
+    long moved = 0;
+    for (Document group : duplicated) {
+      List<Object> ids = group.getList("ids", Object.class);
+      List<Object> extra = ids.subList(1, ids.size());
+      // Upserts, so a start that died between copy and delete can simply run again
+      for (Document copy : interviews.find(in("_id", extra))) {
+        archive.replaceOne(eq("_id", copy.get("_id")), copy, new ReplaceOptions().upsert(true));
+      }
+      moved += interviews.deleteMany(in("_id", extra)).getDeletedCount();
+    }
+    if (moved > 0) {
+      log.warn("Moved {} duplicate interviews of {} applications to {}",
+          moved, duplicated.size(), INTERVIEW_DUPLICATES);
+    }
+
+    collMod(Interview.APPLICATION_ID_INDEX, "unique");
+    log.info("Made interviews index {} unique", Interview.APPLICATION_ID_INDEX);
+  }
+
+  private void collMod(String indexName, String option) {
+    database.runCommand(new Document("collMod", "interviews")
+        .append("index", new Document("name", indexName).append(option, true)));
+  }
+
+  private static Document index(MongoCollection<Document> collection, String name) {
+    // No indexes at all for a collection that does not exist yet
+    for (Document index : collection.listIndexes()) {
+      if (name.equals(index.getString("name"))) {
+        return index;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,146 @@
+package edu.columbia.corefellowship.applications.config;
+
+import edu.columbia.corefellowship.applications.service.KeysetPaginator;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.empty;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Sorts.descending;
+
+/**
+ * Logs the explain() plan of every repository finder once the application is ready.
+ *
+ * Each finder's query shape is explained against its collection and the winning plan is
+ * reduced to its scan and sort stages, so a missing or unused index shows up as a COLLSCAN
+ * warning at startup instead of as slow admin queries later. Keyset page shapes are
+ * explained with their (submittedAt, _id) sort as well, and warn on an in-memory SORT.
+ *
+ * Off by default so production starts do not pay for the explains; the dev and bench
+ * profiles turn it on.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mongo", name = "explain-on-startup", havingValue = "true")
+public class IndexPlanVerifier {
+
+  private static final Logger log = LoggerFactory.getLogger(IndexPlanVerifier.class);
+
+  // Sample values only shape the query; the plan does not depend on them
+  private static final String TERM = "Fall 2025";
+  private static final String STATUS = "submitted";
+  private static final String USER_ID = "000000000000000000000000";
+  // KeysetPaginator's default order
+  private static final Bson PAGE_SORT = descending("submittedAt", "_id");
+
+  private final MongoTemplate mongoTemplate;
+
+  public IndexPlanVerifier(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void verify() {
+    Map<String, Bson> studentFinders = new LinkedHashMap<>();
+    studentFinders.put("findByTerm", eq("term", TERM));
+    studentFinders.put("findByStatus", eq("status", STATUS));
+    studentFinders.put("findByTermAndStatus", and(eq("term", TERM), eq("status", STATUS)));
+    studentFinders.put("findByEmail", eq("email", "applicant@columbia.edu"));
+    studentFinders.put("findByUserId", eq("userId", USER_ID));
+    studentFinders.put("findByUserIdAndTerm", and(eq("userId", USER_ID), eq("term", TERM)));
+    explainAll("student_applications", studentFinders, null);
+    explainAll("student_applications", pageShapes(), PAGE_SORT);
+
+    Map<String, Bson> startupFinders = new LinkedHashMap<>();
+    startupFinders.put("findByTerm", eq("term", TERM));
+    startupFinders.put("findByStatus", eq("status", STATUS));
+    startupFinders.put("findByTermAndStatus", and(eq("term", TERM), eq("status", STATUS)));
+    startupFinders.put("findByIndustry", eq("industry", "Fintech"));
+    startupFinders.put("findByUserId", eq("userId", USER_ID));
+    startupFinders.put("findByUserIdAndTerm", and(eq("userId", USER_ID), eq("term", TERM)));
+    explainAll("startups", startupFinders, null);
+    explainAll("startups", pageShapes(), PAGE_SORT);
+
+    Map<String, Bson> interviewFinders = new LinkedHashMap<>();
+    interviewFinders.put("findByApplicationId", eq("applicationId", USER_ID));
+    interviewFinders.put("findByInterviewerId", eq("interviewerId", USER_ID));
+    explainAll("interviews", interviewFinders, null);
+  }
+
+  /**
+   * The filters the admin list endpoints combine with keyset pagination.
+   */
+  private Map<String, Bson> pageShapes() {
+    Map<String, Bson> pages = new LinkedHashMap<>();
+    pages.put("page()", empty());
+    pages.put("page(term)", eq("term", TERM));
+    pages.put("page(status)", eq("status", STATUS));
+    pages.put("page(term, status)", and(eq("term", TERM), eq("status", STATUS)));
+    return pages;
+  }
+
+  private void explainAll(String collection, Map<String, Bson> finders, Bson sort) {
+    for (Map.Entry<String, Bson> finder : finders.entrySet()) {
+      String label = collection + "." + finder.getKey();
+      try {
+        Document explain = mongoTemplate.getCollection(collection)
+            .find(finder.getValue())
+            .sort(sort)
+            .limit(sort != null ? KeysetPaginator.DEFAULT_LIMIT + 1 : 0)
+            .explain();
+
+        List<String> stages = new ArrayList<>();
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        if (queryPlanner != null) {
+          collectScanStages(queryPlanner.get("winningPlan"), stages);
+        }
+
+        if (stages.isEmpty() || stages.stream().anyMatch(stage -> stage.startsWith("COLLSCAN"))) {
+          log.warn("Index check {} -> {} (no usable index)", label, stages);
+        } else if (stages.contains("SORT")) {
+          log.warn("Index check {} -> {} (sorted in memory)", label, stages);
+        } else {
+          log.info("Index check {} -> {}", label, stages);
+        }
+      } catch (RuntimeException e) {
+        // Never block startup on a diagnostic
+        log.warn("Index check {} failed: {}", label, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Walk a plan tree (classic or SBE layout) and collect IXSCAN/COLLSCAN/SORT stages.
+   */
+  private void collectScanStages(Object node, List<String> stages) {
+    if (node instanceof Document plan) {
+      Object stage = plan.get("stage");
+      if ("IXSCAN".equals(stage)) {
+        stages.add("IXSCAN " + plan.getString("indexName"));
+      } else if ("COLLSCAN".equals(stage)) {
+        stages.add("COLLSCAN");
+      } else if ("SORT".equals(stage)) {
+        stages.add("SORT");
+      }
+      for (String child : List.of("queryPlan", "inputStage", "inputStages")) {
+        collectScanStages(plan.get(child), stages);
+      }
+    } else if (node instanceof List<?> children) {
+      for (Object child : children) {
+        collectScanStages(child, stages);
+      }
+    }
+  }
+}
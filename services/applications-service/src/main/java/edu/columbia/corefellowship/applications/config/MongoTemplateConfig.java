@@ -0,0 +1,23 @@
+package edu.columbia.corefellowship.applications.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * The same MongoTemplate Spring Boot would configure, built only after IndexMigrations ran.
+ *
+ * With auto-index-creation the template creates every index declared on the models in its
+ * constructor, so this is the last point where a conflicting old index can be dropped.
+ */
+@Configuration
+public class MongoTemplateConfig {
+
+  @Bean
+  public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MongoConverter converter) {
+    new IndexMigrations(databaseFactory.getMongoDatabase()).run();
+    return new MongoTemplate(databaseFactory, converter);
+  }
+}
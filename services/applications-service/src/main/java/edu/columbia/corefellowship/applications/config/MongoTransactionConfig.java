@@ -0,0 +1,21 @@
+package edu.columbia.corefellowship.applications.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Multi-document transactions. Mongo only supports them on a replica set or sharded
+ * cluster, so they stay off for the standalone dev container.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "mongo", name = "transactions-enabled", havingValue = "true")
+public class MongoTransactionConfig {
+
+  @Bean
+  public MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory databaseFactory) {
+    return new MongoTransactionManager(databaseFactory);
+  }
+}
@@ -2,6 +2,7 @@
 package edu.columbia.corefellowship.applications.config;
 
 import edu.columbia.corefellowship.applications.security.UserHeaderAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -33,6 +34,12 @@ public class SecurityConfig {
       .cors(cors -> cors.configurationSource(corsConfigurationSource()))
       .authorizeHttpRequests(auth -> auth
         .requestMatchers("/health").permitAll()
+        // Scrape endpoints live on the management port only
+        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+        // Local storage downloads are authorized by the URL signature, like GCS signed URLs
+        .requestMatchers("/v1/files").permitAll()
+        // Streaming exports finish on an async dispatch; the original request was already authorized
+        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
         .anyRequest().authenticated()
       )
       .sessionManagement(session ->
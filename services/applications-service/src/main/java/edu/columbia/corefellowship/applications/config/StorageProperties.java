@@ -0,0 +1,68 @@
+package edu.columbia.corefellowship.applications.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+
+  private String backend = "gcs";
+  private Integer signedUrlCacheMaxEntries = 5000;
+  private Local local = new Local();
+
+  public String getBackend() {
+    return backend;
+  }
+
+  public void setBackend(String backend) {
+    this.backend = backend;
+  }
+
+  public Integer getSignedUrlCacheMaxEntries() {
+    return signedUrlCacheMaxEntries;
+  }
+
+  public void setSignedUrlCacheMaxEntries(Integer signedUrlCacheMaxEntries) {
+    this.signedUrlCacheMaxEntries = signedUrlCacheMaxEntries;
+  }
+
+  public Local getLocal() {
+    return local;
+  }
+
+  public void setLocal(Local local) {
+    this.local = local;
+  }
+
+  public static class Local {
+
+    private String root = ".local-storage";
+    private String publicBaseUrl = "http://localhost:8083";
+    private String signingKey;
+
+    public String getRoot() {
+      return root;
+    }
+
+    public void setRoot(String root) {
+      this.root = root;
+    }
+
+    public String getPublicBaseUrl() {
+      return publicBaseUrl;
+    }
+
+    public void setPublicBaseUrl(String publicBaseUrl) {
+      this.publicBaseUrl = publicBaseUrl;
+    }
+
+    public String getSigningKey() {
+      return signingKey;
+    }
+
+    public void setSigningKey(String signingKey) {
+      this.signingKey = signingKey;
+    }
+  }
+}
@@ -1,196 +1,287 @@
 package edu.columbia.corefellowship.applications.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.columbia.corefellowship.applications.export.CsvWriter;
+import edu.columbia.corefellowship.applications.export.ExportSchemas;
 import edu.columbia.corefellowship.applications.model.StudentApplication;
 import edu.columbia.corefellowship.applications.model.Startup;
-import edu.columbia.corefellowship.applications.repository.StudentApplicationRepository;
-import edu.columbia.corefellowship.applications.repository.StartupRepository;
+import edu.columbia.corefellowship.applications.service.ExportCache;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/export")
 @PreAuthorize("hasRole('ADMIN')")
 public class ExportController {
 
-  private final StudentApplicationRepository studentRepository;
-  private final StartupRepository startupRepository;
+  private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+  private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+  private final MongoTemplate mongoTemplate;
+  private final ExportCache exportCache;
+  private final ObjectWriter jsonWriter;
 
   public ExportController(
-      StudentApplicationRepository studentRepository,
-      StartupRepository startupRepository) {
-    this.studentRepository = studentRepository;
-    this.startupRepository = startupRepository;
+      MongoTemplate mongoTemplate,
+      ExportCache exportCache,
+      ObjectMapper objectMapper) {
+    this.mongoTemplate = mongoTemplate;
+    this.exportCache = exportCache;
+    // Leave the response stream open; the gzip wrapper still has to write its trailer.
+    // Never write the closing ']' on close: if the cursor fails mid-export the body must
+    // end truncated, not as a well-formed array that silently misses documents.
+    // One flush at the end rather than one per document.
+    this.jsonWriter = objectMapper.writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
   }
 
   @GetMapping("/students.json")
-  public ResponseEntity<List<StudentApplication>> exportStudentsJson(
+  public ResponseEntity<StreamingResponseBody> exportStudentsJson(
       @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status) {
-
-    List<StudentApplication> applications;
-
-    if (term != null && status != null) {
-      applications = studentRepository.findByTermAndStatus(term, status);
-    } else if (term != null) {
-      applications = studentRepository.findByTerm(term);
-    } else if (status != null) {
-      applications = studentRepository.findByStatus(status);
-    } else {
-      applications = studentRepository.findAll();
-    }
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    Query query = filterQuery(term, status);
+
+    return export(Kind.STUDENT_APPLICATIONS, "students.json", term, status, acceptEncoding,
+        MediaType.APPLICATION_JSON, out -> writeJsonArray(out, query, StudentApplication.class));
+  }
 
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=students.json")
-        .contentType(MediaType.APPLICATION_JSON)
-        .body(applications);
+  /**
+   * One application per line, for tools that process the export as it arrives.
+   */
+  @GetMapping("/students.ndjson")
+  public ResponseEntity<StreamingResponseBody> exportStudentsNdjson(
+      @RequestParam(required = false) String term,
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    Query query = filterQuery(term, status);
+
+    return export(Kind.STUDENT_APPLICATIONS, "students.ndjson", term, status, acceptEncoding,
+        APPLICATION_NDJSON, out -> writeNdjson(out, query, StudentApplication.class));
   }
 
   @GetMapping("/students.csv")
-  public ResponseEntity<String> exportStudentsCsv(
+  public ResponseEntity<StreamingResponseBody> exportStudentsCsv(
       @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status) {
-
-    List<StudentApplication> applications;
-
-    if (term != null && status != null) {
-      applications = studentRepository.findByTermAndStatus(term, status);
-    } else if (term != null) {
-      applications = studentRepository.findByTerm(term);
-    } else if (status != null) {
-      applications = studentRepository.findByStatus(status);
-    } else {
-      applications = studentRepository.findAll();
-    }
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-    StringBuilder csv = new StringBuilder();
-
-    // Header
-    csv.append("ID,Full Name,Pronouns,Email,Grad Year,School,Major,LinkedIn,Portfolio,Role Preferences,How Did You Hear,Referral Source,Previously Applied,Previously Participated,Has Internship Offers,Term,Status,Submitted At\n");
-
-    // Data rows
-    for (StudentApplication app : applications) {
-      csv.append(escapeCsv(app.getId())).append(",");
-      csv.append(escapeCsv(app.getFullName())).append(",");
-      csv.append(escapeCsv(app.getPronouns())).append(",");
-      csv.append(escapeCsv(app.getEmail())).append(",");
-      csv.append(escapeCsv(app.getGradYear())).append(",");
-      csv.append(escapeCsv(app.getSchool())).append(",");
-      csv.append(escapeCsv(app.getMajor())).append(",");
-      csv.append(escapeCsv(app.getLinkedinProfile())).append(",");
-      csv.append(escapeCsv(app.getPortfolioWebsite())).append(",");
-      csv.append(escapeCsv(app.getRolePreferences() != null ? String.join(";", app.getRolePreferences()) : "")).append(",");
-      csv.append(escapeCsv(app.getHowDidYouHear())).append(",");
-      csv.append(escapeCsv(app.getReferralSource())).append(",");
-      csv.append(app.getPreviouslyApplied() != null ? app.getPreviouslyApplied().toString() : "").append(",");
-      csv.append(app.getPreviouslyParticipated() != null ? app.getPreviouslyParticipated().toString() : "").append(",");
-      csv.append(app.getHasUpcomingInternshipOffers() != null ? app.getHasUpcomingInternshipOffers().toString() : "").append(",");
-      csv.append(escapeCsv(app.getTerm())).append(",");
-      csv.append(escapeCsv(app.getStatus())).append(",");
-      csv.append(app.getSubmittedAt() != null ? app.getSubmittedAt().toString() : "");
-      csv.append("\n");
-    }
+    Query query = filterQuery(term, status);
 
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=students.csv")
-        .contentType(MediaType.parseMediaType("text/csv"))
-        .body(csv.toString());
+    // Rows are written straight from a Mongo cursor to the response, so memory stays
+    // flat no matter how many applications match
+    return export(Kind.STUDENT_APPLICATIONS, "students.csv", term, status, acceptEncoding,
+        TEXT_CSV, out -> {
+          CsvWriter csv = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+          ExportSchemas.STUDENT_APPLICATIONS.writeHeader(csv);
+
+          try (Stream<StudentApplication> applications = mongoTemplate.stream(query, StudentApplication.class)) {
+            Iterator<StudentApplication> rows = applications.iterator();
+            while (rows.hasNext()) {
+              ExportSchemas.STUDENT_APPLICATIONS.writeRow(csv, rows.next());
+            }
+          }
+          csv.flush();
+        });
   }
 
   @GetMapping("/startups.json")
-  public ResponseEntity<List<Startup>> exportStartupsJson(
+  public ResponseEntity<StreamingResponseBody> exportStartupsJson(
       @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status) {
-
-    List<Startup> startups;
-
-    if (term != null && status != null) {
-      startups = startupRepository.findByTermAndStatus(term, status);
-    } else if (term != null) {
-      startups = startupRepository.findByTerm(term);
-    } else if (status != null) {
-      startups = startupRepository.findByStatus(status);
-    } else {
-      startups = startupRepository.findAll();
-    }
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    Query query = filterQuery(term, status);
 
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=startups.json")
-        .contentType(MediaType.APPLICATION_JSON)
-        .body(startups);
+    return export(Kind.STARTUPS, "startups.json", term, status, acceptEncoding,
+        MediaType.APPLICATION_JSON, out -> writeJsonArray(out, query, Startup.class));
+  }
+
+  /**
+   * One startup per line, for tools that process the export as it arrives.
+   */
+  @GetMapping("/startups.ndjson")
+  public ResponseEntity<StreamingResponseBody> exportStartupsNdjson(
+      @RequestParam(required = false) String term,
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    Query query = filterQuery(term, status);
+
+    return export(Kind.STARTUPS, "startups.ndjson", term, status, acceptEncoding,
+        APPLICATION_NDJSON, out -> writeNdjson(out, query, Startup.class));
   }
 
   @GetMapping("/startups.csv")
-  public ResponseEntity<String> exportStartupsCsv(
+  public ResponseEntity<StreamingResponseBody> exportStartupsCsv(
       @RequestParam(required = false) String term,
-      @RequestParam(required = false) String status) {
-
-    List<Startup> startups;
-
-    if (term != null && status != null) {
-      startups = startupRepository.findByTermAndStatus(term, status);
-    } else if (term != null) {
-      startups = startupRepository.findByTerm(term);
-    } else if (status != null) {
-      startups = startupRepository.findByStatus(status);
-    } else {
-      startups = startupRepository.findAll();
+      @RequestParam(required = false) String status,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    Query query = filterQuery(term, status);
+
+    return export(Kind.STARTUPS, "startups.csv", term, status, acceptEncoding,
+        TEXT_CSV, out -> {
+          CsvWriter csv = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+          ExportSchemas.STARTUPS.writeHeader(csv);
+
+          try (Stream<Startup> startups = mongoTemplate.stream(query, Startup.class)) {
+            Iterator<Startup> rows = startups.iterator();
+            while (rows.hasNext()) {
+              ExportSchemas.STARTUPS.writeRow(csv, rows.next());
+            }
+          }
+          csv.flush();
+        });
+  }
+
+  /**
+   * Write an export, gzip-compressed when the client accepts it.
+   *
+   * Compressed bodies are cached per (endpoint, term, status, data version), so repeating
+   * an export of unchanged data replays the cached bytes instead of re-querying and
+   * recompressing. Setting Content-Encoding here also stops Tomcat from compressing again.
+   */
+  private ResponseEntity<StreamingResponseBody> export(
+      Kind kind, String fileName, String term, String status, String acceptEncoding,
+      MediaType contentType, ExportWriter writer) {
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
+    headers.setContentType(contentType);
+    headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (!acceptsGzip(acceptEncoding)) {
+      return ResponseEntity.ok().headers(headers).body(writer::write);
     }
 
-    StringBuilder csv = new StringBuilder();
-
-    // Header
-    csv.append("ID,Company Name,Website,Industry,Description,Stage,Team Size,Founded Year,Contact Name,Contact Title,Contact Email,Contact Phone,Operating Mode,Time Zone,Interns Supervisor,Has Hired Interns Previously,Number Of Interns Needed,Will Pay Interns,Pay Amount,Looking For Permanent Intern,Project Description URL,Referral Source,Commitment Acknowledged,Term,Status,Submitted At\n");
-
-    // Data rows
-    for (Startup startup : startups) {
-      csv.append(escapeCsv(startup.getId())).append(",");
-      csv.append(escapeCsv(startup.getCompanyName())).append(",");
-      csv.append(escapeCsv(startup.getWebsite())).append(",");
-      csv.append(escapeCsv(startup.getIndustry())).append(",");
-      csv.append(escapeCsv(startup.getDescription())).append(",");
-      csv.append(escapeCsv(startup.getStage())).append(",");
-      csv.append(escapeCsv(startup.getTeamSize())).append(",");
-      csv.append(escapeCsv(startup.getFoundedYear())).append(",");
-      csv.append(escapeCsv(startup.getContactName())).append(",");
-      csv.append(escapeCsv(startup.getContactTitle())).append(",");
-      csv.append(escapeCsv(startup.getContactEmail())).append(",");
-      csv.append(escapeCsv(startup.getContactPhone())).append(",");
-      csv.append(escapeCsv(startup.getOperatingMode())).append(",");
-      csv.append(escapeCsv(startup.getTimeZone())).append(",");
-      csv.append(escapeCsv(startup.getInternsSupervisor())).append(",");
-      csv.append(startup.getHasHiredInternsPreviously() != null ? startup.getHasHiredInternsPreviously().toString() : "").append(",");
-      csv.append(startup.getNumberOfInternsNeeded() != null ? startup.getNumberOfInternsNeeded().toString() : "").append(",");
-      csv.append(escapeCsv(startup.getWillPayInterns())).append(",");
-      csv.append(escapeCsv(startup.getPayAmount())).append(",");
-      csv.append(escapeCsv(startup.getLookingForPermanentIntern())).append(",");
-      csv.append(escapeCsv(startup.getProjectDescriptionUrl())).append(",");
-      csv.append(escapeCsv(startup.getReferralSource())).append(",");
-      csv.append(startup.getCommitmentAcknowledged() != null ? startup.getCommitmentAcknowledged().toString() : "").append(",");
-      csv.append(escapeCsv(startup.getTerm())).append(",");
-      csv.append(escapeCsv(startup.getStatus())).append(",");
-      csv.append(startup.getSubmittedAt() != null ? startup.getSubmittedAt().toString() : "");
-      csv.append("\n");
+    headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    long version = exportCache.version(kind);
+    String key = exportCache.key(kind, fileName, term, status, version);
+
+    byte[] cached = exportCache.get(key);
+    if (cached != null) {
+      headers.setContentLength(cached.length);
+      return ResponseEntity.ok().headers(headers).body(out -> out.write(cached));
     }
 
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=startups.csv")
-        .contentType(MediaType.parseMediaType("text/csv"))
-        .body(csv.toString());
+    StreamingResponseBody body = out -> {
+      ExportCache.CapturingOutputStream capture = exportCache.capture(out);
+      try {
+        GZIPOutputStream gzip = new GZIPOutputStream(capture, GZIP_BUFFER_SIZE);
+        writer.write(gzip);
+        gzip.finish();
+        capture.flush();
+        exportCache.put(key, kind, version, capture);
+      } finally {
+        // Gives back the copy's share of the cache budget unless put() kept it
+        capture.discard();
+      }
+    };
+    return ResponseEntity.ok().headers(headers).body(body);
   }
 
-  private String escapeCsv(String value) {
-    if (value == null) {
-      return "";
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      String name = parts[0].trim();
+      if (!name.equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      // gzip;q=0 means "not acceptable"
+      for (int i = 1; i < parts.length; i++) {
+        String param = parts[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            return Double.parseDouble(param.substring(2)) > 0;
+          } catch (NumberFormatException e) {
+            return false;
+          }
+        }
+      }
+      return true;
     }
-    // Escape quotes and wrap in quotes if contains comma, quote, or newline
-    if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-      return "\"" + value.replace("\"", "\"\"") + "\"";
+    return false;
+  }
+
+  /**
+   * Build the term/status filter shared by the streaming exports.
+   */
+  private Query filterQuery(String term, String status) {
+    Query query = new Query();
+    if (term != null) {
+      query.addCriteria(Criteria.where("term").is(term));
     }
-    return value;
+    if (status != null) {
+      query.addCriteria(Criteria.where("status").is(status));
+    }
+    return query;
+  }
+
+  /**
+   * Stream the matching documents as a JSON array, one document at a time from a Mongo
+   * cursor, so only the document being serialized is held in memory.
+   */
+  private <T> void writeJsonArray(OutputStream out, Query query, Class<T> type) throws IOException {
+    try (JsonGenerator json = jsonWriter.createGenerator(out);
+         Stream<T> documents = mongoTemplate.stream(query, type)) {
+      json.writeStartArray();
+      Iterator<T> rows = documents.iterator();
+      while (rows.hasNext()) {
+        jsonWriter.writeValue(json, rows.next());
+      }
+      json.writeEndArray();
+    }
+  }
+
+  /**
+   * Stream the matching documents as newline-delimited JSON, one document per line.
+   */
+  private <T> void writeNdjson(OutputStream out, Query query, Class<T> type) throws IOException {
+    try (JsonGenerator json = jsonWriter.createGenerator(out);
+         Stream<T> documents = mongoTemplate.stream(query, type)) {
+      // Each line ends with '\n' below; drop the default space between root values
+      json.setRootValueSeparator(null);
+      Iterator<T> rows = documents.iterator();
+      while (rows.hasNext()) {
+        jsonWriter.writeValue(json, rows.next());
+        json.writeRaw('\n');
+      }
+    }
+  }
+
+  /**
+   * Writes one export body to the given stream.
+   */
+  @FunctionalInterface
+  private interface ExportWriter {
+    void write(OutputStream out) throws IOException;
   }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package edu.columbia.corefellowship.applications.controller;
+
+import edu.columbia.corefellowship.applications.storage.LocalBlobStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Serves files of the local storage backend from signed URLs (the local stand-in for
+ * GCS signed URLs). Returning a Resource lets Spring answer Range requests with 206
+ * partial content, so PDF viewers can fetch pages on demand.
+ */
+@RestController
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalFileController {
+
+  private final LocalBlobStore blobStore;
+
+  public LocalFileController(LocalBlobStore blobStore) {
+    this.blobStore = blobStore;
+  }
+
+  @GetMapping("/v1/files")
+  public ResponseEntity<Resource> download(
+      @RequestParam String blob,
+      @RequestParam long expires,
+      @RequestParam String signature) {
+
+    Path path = blobStore.verify(blob, expires, signature);
+    if (path == null) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Invalid or expired URL");
+    }
+    if (!Files.isRegularFile(path)) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+    }
+
+    MediaType contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+        .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    return ResponseEntity.ok()
+        .contentType(contentType)
+        .cacheControl(CacheControl.noStore())
+        .body(new FileSystemResource(path));
+  }
+}
@@ -1,9 +1,23 @@
 package edu.columbia.corefellowship.applications.controller;
 
+import edu.columbia.corefellowship.applications.dto.BulkStatusUpdateRequest;
 import edu.columbia.corefellowship.applications.dto.CreateStartupRequest;
+import edu.columbia.corefellowship.applications.dto.PageResponse;
 import edu.columbia.corefellowship.applications.model.Startup;
 import edu.columbia.corefellowship.applications.repository.StartupRepository;
+import edu.columbia.corefellowship.applications.service.BulkStatusUpdater;
+import edu.columbia.corefellowship.applications.service.ExportCache;
+import edu.columbia.corefellowship.applications.service.FieldProjection;
+import edu.columbia.corefellowship.applications.service.KeysetPaginator;
+import edu.columbia.corefellowship.applications.service.ProjectedJson;
+import edu.columbia.corefellowship.applications.service.StatusCounterService;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import edu.columbia.corefellowship.applications.service.VersionedUpdates;
 import jakarta.validation.Valid;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,10 +32,37 @@ import java.util.Map;
 @RequestMapping("/v1/startups")
 public class StartupController {
 
-  private final StartupRepository repository;
+  // Columns the admin list views need; returned for fields=summary
+  private static final List<String> SUMMARY_FIELDS = List.of(
+      "userId", "companyName", "industry", "stage", "contactName",
+      "contactEmail", "term", "status");
 
-  public StartupController(StartupRepository repository) {
+  private final StartupRepository repository;
+  private final KeysetPaginator paginator;
+  private final StatusCounterService statusCounters;
+  private final ExportCache exportCache;
+  private final MongoTemplate mongoTemplate;
+  private final BulkStatusUpdater bulkStatusUpdater;
+  private final VersionedUpdates versionedUpdates;
+  private final ProjectedJson projectedJson;
+
+  public StartupController(
+      StartupRepository repository,
+      KeysetPaginator paginator,
+      StatusCounterService statusCounters,
+      ExportCache exportCache,
+      MongoTemplate mongoTemplate,
+      BulkStatusUpdater bulkStatusUpdater,
+      VersionedUpdates versionedUpdates,
+      ProjectedJson projectedJson) {
     this.repository = repository;
+    this.paginator = paginator;
+    this.statusCounters = statusCounters;
+    this.exportCache = exportCache;
+    this.mongoTemplate = mongoTemplate;
+    this.bulkStatusUpdater = bulkStatusUpdater;
+    this.versionedUpdates = versionedUpdates;
+    this.projectedJson = projectedJson;
   }
 
   @PostMapping("/intake")
@@ -93,14 +134,24 @@ public class StartupController {
     startup.setSubmittedAt(Instant.now());
     startup.setUpdatedAt(Instant.now());
 
-    Startup saved = repository.save(startup);
+    Startup saved = statusCounters.write(Kind.STARTUPS, counts -> {
+      Startup inserted = repository.save(startup);
+      counts.created(inserted.getTerm(), inserted.getStatus());
+      return inserted;
+    });
+    exportCache.invalidate(Kind.STARTUPS);
     return ResponseEntity.status(HttpStatus.CREATED).body(saved);
   }
 
   @GetMapping
-  public ResponseEntity<List<Startup>> getStartups(
+  public ResponseEntity<?> getStartups(
       @RequestParam(required = false) String term,
       @RequestParam(required = false) String status,
+      @RequestParam(required = false) String industry,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) String order,
+      @RequestParam(required = false) String fields,
       @RequestHeader(value = "X-User-Id", required = false) String userId,
       @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
@@ -108,6 +159,41 @@ public class StartupController {
 
     // Admins can see all startups
     if ("ROLE_ADMIN".equals(userRole)) {
+      // Paginated listing: keyset over (submittedAt, _id), filtered server-side
+      if (limit != null || after != null) {
+        Query filter = new Query();
+        if (term != null) {
+          filter.addCriteria(Criteria.where("term").is(term));
+        }
+        if (status != null) {
+          filter.addCriteria(Criteria.where("status").is(status));
+        }
+        if (industry != null) {
+          filter.addCriteria(Criteria.where("industry").is(industry));
+        }
+
+        boolean projectedPage = FieldProjection.apply(filter, fields, Startup.class, SUMMARY_FIELDS);
+        PageResponse<Startup> page = paginator.page(
+            filter, Startup.class, limit, after, order,
+            Startup::getSubmittedAt, Startup::getId);
+        if (projectedPage) {
+          return ResponseEntity.ok(projectedJson.page(page));
+        }
+        return ResponseEntity.ok(page);
+      }
+
+      // Projected listing: same filters, but only the requested fields are read
+      Query projected = new Query();
+      if (FieldProjection.apply(projected, fields, Startup.class, SUMMARY_FIELDS)) {
+        if (term != null) {
+          projected.addCriteria(Criteria.where("term").is(term));
+        }
+        if (status != null) {
+          projected.addCriteria(Criteria.where("status").is(status));
+        }
+        return ResponseEntity.ok(projectedJson.list(mongoTemplate.find(projected, Startup.class)));
+      }
+
       if (term != null && status != null) {
         startups = repository.findByTermAndStatus(term, status);
       } else if (term != null) {
@@ -122,6 +208,11 @@ public class StartupController {
       if (userId == null || userId.isBlank()) {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User ID is required");
       }
+
+      Query own = Query.query(Criteria.where("userId").is(userId));
+      if (FieldProjection.apply(own, fields, Startup.class, SUMMARY_FIELDS)) {
+        return ResponseEntity.ok(projectedJson.list(mongoTemplate.find(own, Startup.class)));
+      }
       startups = repository.findByUserId(userId);
     }
 
@@ -156,39 +247,69 @@ public class StartupController {
         .orElse(ResponseEntity.notFound().build());
   }
 
+  /**
+   * Set one status on many startups in a single bulkWrite.
+   * Returns the outcome per id (updated, unchanged, not_found) rather than failing the batch.
+   */
+  @PatchMapping("/bulk/status")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<Map<String, Object>> bulkUpdateStatus(
+      @Valid @RequestBody BulkStatusUpdateRequest request) {
+    return ResponseEntity.ok(bulkStatusUpdater.apply(Kind.STARTUPS, request));
+  }
+
   @PatchMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN')")
   public ResponseEntity<Startup> updateStartupStatus(
       @PathVariable String id,
       @RequestBody Map<String, String> updates) {
 
-    return repository.findById(id)
-        .map(startup -> {
-          if (updates.containsKey("status")) {
-            startup.setStatus(updates.get("status"));
-          }
-          if (updates.containsKey("reviewedBy")) {
-            startup.setReviewedBy(updates.get("reviewedBy"));
-          }
-          if (updates.containsKey("reviewNotes")) {
-            startup.setReviewNotes(updates.get("reviewNotes"));
-          }
+    Long expectedVersion = null;
+    if (updates.containsKey("version")) {
+      try {
+        expectedVersion = Long.valueOf(updates.get("version"));
+      } catch (NumberFormatException e) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "version must be a number");
+      }
+    }
 
-          startup.setUpdatedAt(Instant.now());
-          Startup updated = repository.save(startup);
-          return ResponseEntity.ok(updated);
-        })
-        .orElse(ResponseEntity.notFound().build());
+    Instant now = Instant.now();
+    Update update = Update.update("updatedAt", now).inc(VersionedUpdates.VERSION, 1);
+    for (String field : List.of("status", "reviewedBy", "reviewNotes")) {
+      if (updates.containsKey(field)) {
+        update.set(field, updates.get(field));
+      }
+    }
+
+    // Matched on the status read just before, so that is the status the counters move from
+    Long version = expectedVersion;
+    Startup startup = statusCounters.write(Kind.STARTUPS, counts -> {
+      VersionedUpdates.StatusChange<Startup> change = versionedUpdates.modifyStatus(
+          Criteria.where("id").is(id), version, update,
+          Startup.class, Startup::getStatus, "Startup not found");
+      Startup updated = change.getDocument();
+      counts.statusChanged(updated.getTerm(), change.getPreviousStatus(), updated.getStatus());
+      return updated;
+    });
+    exportCache.invalidate(Kind.STARTUPS);
+    return ResponseEntity.ok(startup);
   }
 
   @DeleteMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN')")
   public ResponseEntity<Map<String, String>> deleteStartup(@PathVariable String id) {
-    if (!repository.existsById(id)) {
+    // The removed document itself, so the counters drop the status it had when deleted
+    Startup startup = statusCounters.write(Kind.STARTUPS, counts -> {
+      Startup removed = mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Startup.class);
+      if (removed != null) {
+        counts.deleted(removed.getTerm(), removed.getStatus());
+      }
+      return removed;
+    });
+    if (startup == null) {
       return ResponseEntity.notFound().build();
     }
-
-    repository.deleteById(id);
+    exportCache.invalidate(Kind.STARTUPS);
     return ResponseEntity.ok(Map.of("message", "Startup deleted successfully"));
   }
 }
\ No newline at end of file
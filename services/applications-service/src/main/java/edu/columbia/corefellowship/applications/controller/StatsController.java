@@ -0,0 +1,68 @@
+package edu.columbia.corefellowship.applications.controller;
+
+import edu.columbia.corefellowship.applications.service.InterviewRankingService;
+import edu.columbia.corefellowship.applications.service.StatusCounterService;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/stats")
+@PreAuthorize("hasRole('ADMIN')")
+public class StatsController {
+
+  private static final int DEFAULT_TOP_K = 20;
+  private static final int MAX_TOP_K = 200;
+
+  private final StatusCounterService statusCounterService;
+  private final InterviewRankingService rankingService;
+
+  public StatsController(StatusCounterService statusCounterService,
+                         InterviewRankingService rankingService) {
+    this.statusCounterService = statusCounterService;
+    this.rankingService = rankingService;
+  }
+
+  /**
+   * Per-status and per-term counts for student applications and startups.
+   * Served from in-memory counters; pass refresh=true to recompute them from Mongo first,
+   * which is skipped if one ran within stats.refresh-min-interval-ms or is running now.
+   */
+  @GetMapping("/status-counts")
+  public ResponseEntity<Map<String, Object>> getStatusCounts(
+      @RequestParam(required = false) String term,
+      @RequestParam(defaultValue = "false") boolean refresh) {
+
+    if (refresh) {
+      statusCounterService.refresh();
+    }
+
+    Map<String, Object> counts = new LinkedHashMap<>();
+    counts.put("studentApplications", statusCounterService.snapshot(Kind.STUDENT_APPLICATIONS, term));
+    counts.put("startups", statusCounterService.snapshot(Kind.STARTUPS, term));
+    return ResponseEntity.ok(counts);
+  }
+
+  /**
+   * Interviewed candidates ranked by overall interview score: top-K, score percentiles
+   * and recommendation distribution. Served from the in-memory ranking index; pass
+   * refresh=true to rebuild it from Mongo first, rate-limited like the status counts.
+   */
+  @GetMapping("/interview-rankings")
+  public ResponseEntity<Map<String, Object>> getInterviewRankings(
+      @RequestParam(required = false) String term,
+      @RequestParam(required = false) Integer k,
+      @RequestParam(defaultValue = "false") boolean refresh) {
+
+    if (refresh) {
+      rankingService.refresh();
+    }
+
+    int topK = k == null ? DEFAULT_TOP_K : Math.max(1, Math.min(k, MAX_TOP_K));
+    return ResponseEntity.ok(rankingService.ranking(term, topK));
+  }
+}
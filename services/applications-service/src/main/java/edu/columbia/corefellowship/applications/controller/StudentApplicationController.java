@@ -1,15 +1,33 @@
 package edu.columbia.corefellowship.applications.controller;
 
+import edu.columbia.corefellowship.applications.dto.BulkStatusUpdateRequest;
 import edu.columbia.corefellowship.applications.dto.CreateInterviewRequest;
 import edu.columbia.corefellowship.applications.dto.CreateStudentApplicationRequest;
+import edu.columbia.corefellowship.applications.dto.PageResponse;
 import edu.columbia.corefellowship.applications.dto.UpdateApplicationStatusRequest;
 import edu.columbia.corefellowship.applications.dto.UpdateInterviewRequest;
 import edu.columbia.corefellowship.applications.model.Interview;
 import edu.columbia.corefellowship.applications.model.StudentApplication;
 import edu.columbia.corefellowship.applications.repository.InterviewRepository;
 import edu.columbia.corefellowship.applications.repository.StudentApplicationRepository;
+import edu.columbia.corefellowship.applications.service.BulkStatusUpdater;
+import edu.columbia.corefellowship.applications.service.ExportCache;
+import edu.columbia.corefellowship.applications.service.FieldProjection;
+import edu.columbia.corefellowship.applications.service.InterviewCreator;
+import edu.columbia.corefellowship.applications.service.InterviewRankingService;
+import edu.columbia.corefellowship.applications.service.KeysetPaginator;
+import edu.columbia.corefellowship.applications.service.ProjectedJson;
+import edu.columbia.corefellowship.applications.service.StatusCounterService;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
 import edu.columbia.corefellowship.applications.service.StorageService;
+import edu.columbia.corefellowship.applications.service.VersionedUpdates;
 import jakarta.validation.Valid;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,7 +35,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,17 +47,51 @@ import java.util.Map;
 @RequestMapping("/v1/students/applications")
 public class StudentApplicationController {
 
+  // Columns the admin list views need; returned for fields=summary
+  private static final List<String> SUMMARY_FIELDS = List.of(
+      "userId", "fullName", "email", "school", "major", "gradYear",
+      "term", "status", "resumeUrl");
+
+  private static final int MAX_RESUME_URL_BATCH = 200;
+
   private final StudentApplicationRepository repository;
   private final StorageService storageService;
   private final InterviewRepository interviewRepository;
+  private final KeysetPaginator paginator;
+  private final StatusCounterService statusCounters;
+  private final MongoTemplate mongoTemplate;
+  private final ExportCache exportCache;
+  private final InterviewRankingService rankings;
+  private final BulkStatusUpdater bulkStatusUpdater;
+  private final VersionedUpdates versionedUpdates;
+  private final InterviewCreator interviewCreator;
+  private final ProjectedJson projectedJson;
 
   public StudentApplicationController(
       StudentApplicationRepository repository,
       StorageService storageService,
-      InterviewRepository interviewRepository) {
+      InterviewRepository interviewRepository,
+      KeysetPaginator paginator,
+      StatusCounterService statusCounters,
+      MongoTemplate mongoTemplate,
+      ExportCache exportCache,
+      InterviewRankingService rankings,
+      BulkStatusUpdater bulkStatusUpdater,
+      VersionedUpdates versionedUpdates,
+      InterviewCreator interviewCreator,
+      ProjectedJson projectedJson) {
     this.repository = repository;
     this.storageService = storageService;
     this.interviewRepository = interviewRepository;
+    this.paginator = paginator;
+    this.statusCounters = statusCounters;
+    this.mongoTemplate = mongoTemplate;
+    this.exportCache = exportCache;
+    this.rankings = rankings;
+    this.bulkStatusUpdater = bulkStatusUpdater;
+    this.versionedUpdates = versionedUpdates;
+    this.interviewCreator = interviewCreator;
+    this.projectedJson = projectedJson;
   }
 
   @PostMapping
@@ -104,14 +160,25 @@ public class StudentApplicationController {
     application.setSubmittedAt(Instant.now());
     application.setUpdatedAt(Instant.now());
 
-    StudentApplication saved = repository.save(application);
+    StudentApplication saved = statusCounters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      StudentApplication inserted = repository.save(application);
+      counts.created(inserted.getTerm(), inserted.getStatus());
+      return inserted;
+    });
+    exportCache.invalidate(Kind.STUDENT_APPLICATIONS);
     return ResponseEntity.status(HttpStatus.CREATED).body(saved);
   }
 
   @GetMapping
-  public ResponseEntity<List<StudentApplication>> getApplications(
+  public ResponseEntity<?> getApplications(
       @RequestParam(required = false) String term,
       @RequestParam(required = false) String status,
+      @RequestParam(required = false) String school,
+      @RequestParam(required = false) String gradYear,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) String order,
+      @RequestParam(required = false) String fields,
       @RequestHeader(value = "X-User-Id", required = false) String userId,
       @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
@@ -119,6 +186,44 @@ public class StudentApplicationController {
 
     // Admins can see all applications
     if ("ROLE_ADMIN".equals(userRole)) {
+      // Paginated listing: keyset over (submittedAt, _id), filtered server-side
+      if (limit != null || after != null) {
+        Query filter = new Query();
+        if (term != null) {
+          filter.addCriteria(Criteria.where("term").is(term));
+        }
+        if (status != null) {
+          filter.addCriteria(Criteria.where("status").is(status));
+        }
+        if (school != null) {
+          filter.addCriteria(Criteria.where("school").is(school));
+        }
+        if (gradYear != null) {
+          filter.addCriteria(Criteria.where("gradYear").is(gradYear));
+        }
+
+        boolean projectedPage = FieldProjection.apply(filter, fields, StudentApplication.class, SUMMARY_FIELDS);
+        PageResponse<StudentApplication> page = paginator.page(
+            filter, StudentApplication.class, limit, after, order,
+            StudentApplication::getSubmittedAt, StudentApplication::getId);
+        if (projectedPage) {
+          return ResponseEntity.ok(projectedJson.page(page));
+        }
+        return ResponseEntity.ok(page);
+      }
+
+      // Projected listing: same filters, but only the requested fields are read
+      Query projected = new Query();
+      if (FieldProjection.apply(projected, fields, StudentApplication.class, SUMMARY_FIELDS)) {
+        if (term != null) {
+          projected.addCriteria(Criteria.where("term").is(term));
+        }
+        if (status != null) {
+          projected.addCriteria(Criteria.where("status").is(status));
+        }
+        return ResponseEntity.ok(projectedJson.list(mongoTemplate.find(projected, StudentApplication.class)));
+      }
+
       if (term != null && status != null) {
         applications = repository.findByTermAndStatus(term, status);
       } else if (term != null) {
@@ -133,6 +238,11 @@ public class StudentApplicationController {
       if (userId == null || userId.isBlank()) {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User ID is required");
       }
+
+      Query own = Query.query(Criteria.where("userId").is(userId));
+      if (FieldProjection.apply(own, fields, StudentApplication.class, SUMMARY_FIELDS)) {
+        return ResponseEntity.ok(projectedJson.list(mongoTemplate.find(own, StudentApplication.class)));
+      }
       applications = repository.findByUserId(userId);
     }
 
@@ -178,10 +288,13 @@ public class StudentApplicationController {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User ID is required");
     }
 
-    // Find the application
-    StudentApplication application = repository.findById(id)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-            "Application not found"));
+    // Find the application (owner only, nothing else is needed before the upload)
+    Query ownerQuery = Query.query(Criteria.where("id").is(id));
+    ownerQuery.fields().include("userId");
+    StudentApplication application = mongoTemplate.findOne(ownerQuery, StudentApplication.class);
+    if (application == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+    }
 
     // Verify user owns this application
     if (!application.getUserId().equals(userId)) {
@@ -195,10 +308,13 @@ public class StudentApplicationController {
     // Upload file to GCS
     String blobName = storageService.uploadFile(file, userId, fileName);
 
-    // Update application with GCS blob name
-    application.setResumeUrl(blobName);
-    application.setUpdatedAt(Instant.now());
-    repository.save(application);
+    // Update application with GCS blob name; only the two changed fields are written
+    versionedUpdates.modify(Criteria.where("id").is(id).and("userId").is(userId), null,
+        Update.update("resumeUrl", blobName)
+            .set("updatedAt", Instant.now())
+            .inc(VersionedUpdates.VERSION, 1),
+        true, StudentApplication.class, "Application not found");
+    exportCache.invalidate(Kind.STUDENT_APPLICATIONS);
 
     // Return the blob name
     return ResponseEntity.ok(Map.of(
@@ -233,47 +349,117 @@ public class StudentApplicationController {
           "No resume uploaded for this application");
     }
 
-    // Generate signed URL (valid for 15 minutes)
-    String signedUrl = storageService.getSignedUrl(application.getResumeUrl());
+    // Generate signed URL (valid for 15 minutes, reused from cache while more than 5 remain)
+    StorageService.SignedUrl signedUrl = storageService.sign(application.getResumeUrl());
 
     return ResponseEntity.ok(Map.of(
-        "signedUrl", signedUrl,
-        "expiresIn", "15 minutes"
+        "signedUrl", signedUrl.getUrl(),
+        "expiresIn", minutesUntil(signedUrl.getExpiresAt()) + " minutes"
     ));
   }
 
+  /**
+   * Signed resume URLs for several applications in one call (admin only).
+   * Applications without a resume are left out of the result.
+   */
+  @GetMapping("/resume-urls")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<Map<String, Object>> getResumeUrls(@RequestParam List<String> ids) {
+    if (ids.size() > MAX_RESUME_URL_BATCH) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          "At most " + MAX_RESUME_URL_BATCH + " ids per request");
+    }
+
+    Query query = Query.query(Criteria.where("id").in(ids).and("resumeUrl").ne(null));
+    query.fields().include("resumeUrl");
+
+    Map<String, String> blobNames = new LinkedHashMap<>();
+    for (StudentApplication application : mongoTemplate.find(query, StudentApplication.class)) {
+      blobNames.put(application.getId(), application.getResumeUrl());
+    }
+    Map<String, StorageService.SignedUrl> signed = storageService.sign(blobNames.values());
+
+    Map<String, String> urls = new LinkedHashMap<>();
+    Instant earliestExpiry = null;
+    for (Map.Entry<String, String> blob : blobNames.entrySet()) {
+      StorageService.SignedUrl signedUrl = signed.get(blob.getValue());
+      urls.put(blob.getKey(), signedUrl.getUrl());
+      if (earliestExpiry == null || signedUrl.getExpiresAt().isBefore(earliestExpiry)) {
+        earliestExpiry = signedUrl.getExpiresAt();
+      }
+    }
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("urls", urls);
+    if (earliestExpiry != null) {
+      body.put("expiresIn", minutesUntil(earliestExpiry) + " minutes");
+    }
+    return ResponseEntity.ok(body);
+  }
+
+  private static long minutesUntil(Instant instant) {
+    return Duration.between(Instant.now(), instant).toMinutes();
+  }
+
+  /**
+   * Set one status on many applications in a single bulkWrite.
+   * Returns the outcome per id (updated, unchanged, not_found) rather than failing the batch.
+   */
+  @PatchMapping("/bulk/status")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<Map<String, Object>> bulkUpdateStatus(
+      @Valid @RequestBody BulkStatusUpdateRequest request) {
+    return ResponseEntity.ok(bulkStatusUpdater.apply(Kind.STUDENT_APPLICATIONS, request));
+  }
+
   @PatchMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN')")
   public ResponseEntity<StudentApplication> updateApplicationStatus(
       @PathVariable String id,
       @Valid @RequestBody UpdateApplicationStatusRequest request) {
 
-    return repository.findById(id)
-        .map(application -> {
-          application.setStatus(request.getStatus());
-          application.setUpdatedAt(Instant.now());
-
-          if (request.getReviewedBy() != null) {
-            application.setReviewedBy(request.getReviewedBy());
-          }
-          if (request.getReviewNotes() != null) {
-            application.setReviewNotes(request.getReviewNotes());
-          }
+    Instant now = Instant.now();
+    Update update = Update.update("status", request.getStatus())
+        .set("updatedAt", now)
+        .inc(VersionedUpdates.VERSION, 1);
+    if (request.getReviewedBy() != null) {
+      update.set("reviewedBy", request.getReviewedBy());
+    }
+    if (request.getReviewNotes() != null) {
+      update.set("reviewNotes", request.getReviewNotes());
+    }
 
-          StudentApplication updated = repository.save(application);
-          return ResponseEntity.ok(updated);
-        })
-        .orElse(ResponseEntity.notFound().build());
+    // Matched on the status read just before, so that is the status the counters move from
+    StudentApplication application = statusCounters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      VersionedUpdates.StatusChange<StudentApplication> change = versionedUpdates.modifyStatus(
+          Criteria.where("id").is(id), request.getVersion(), update,
+          StudentApplication.class, StudentApplication::getStatus, "Application not found");
+      StudentApplication updated = change.getDocument();
+      counts.statusChanged(updated.getTerm(), change.getPreviousStatus(), updated.getStatus());
+      return updated;
+    });
+    exportCache.invalidate(Kind.STUDENT_APPLICATIONS);
+    rankings.updateStatus(id, application.getStatus());
+    return ResponseEntity.ok(application);
   }
 
   @DeleteMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN')")
   public ResponseEntity<Map<String, String>> deleteApplication(@PathVariable String id) {
-    if (!repository.existsById(id)) {
+    // The removed document itself, so the counters drop the status it had when deleted
+    StudentApplication application = statusCounters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      StudentApplication removed = mongoTemplate.findAndRemove(
+          Query.query(Criteria.where("id").is(id)), StudentApplication.class);
+      if (removed != null) {
+        counts.deleted(removed.getTerm(), removed.getStatus());
+      }
+      return removed;
+    });
+    if (application == null) {
       return ResponseEntity.notFound().build();
     }
-
-    repository.deleteById(id);
+    exportCache.invalidate(Kind.STUDENT_APPLICATIONS);
+    rankings.remove(id);
     return ResponseEntity.ok(Map.of("message", "Application deleted successfully"));
   }
 
@@ -287,17 +473,6 @@ public class StudentApplicationController {
       @RequestHeader(value = "X-User-Id", required = false) String userId,
       @RequestHeader(value = "X-User-Email", required = false) String userEmail) {
 
-    // Verify application exists
-    StudentApplication application = repository.findById(id)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-            "Application not found"));
-
-    // Check if interview already exists
-    if (interviewRepository.existsByApplicationId(id)) {
-      throw new ResponseStatusException(HttpStatus.CONFLICT,
-          "Interview already exists for this application. Use PATCH to update.");
-    }
-
     // Create interview
     Interview interview = new Interview();
     interview.setApplicationId(id);
@@ -318,13 +493,19 @@ public class StudentApplicationController {
     // Calculate overall score
     interview.calculateOverallScore();
 
-    // Save interview
-    Interview saved = interviewRepository.save(interview);
-
-    // Update application status to INTERVIEWED
-    application.setStatus("interviewed");
-    application.setUpdatedAt(Instant.now());
-    repository.save(application);
+    // Insert it and flip the application to INTERVIEWED; a duplicate is a 409 from the
+    // unique index, a missing application a 404
+    InterviewCreator.Created created = statusCounters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      InterviewCreator.Created inserted = interviewCreator.create(interview);
+      StudentApplication previous = inserted.getPreviousApplication();
+      counts.statusChanged(previous.getTerm(), previous.getStatus(), InterviewCreator.INTERVIEWED);
+      return inserted;
+    });
+    Interview saved = created.getInterview();
+    StudentApplication application = created.getPreviousApplication();
+    application.setStatus(InterviewCreator.INTERVIEWED);
+    exportCache.invalidate(Kind.STUDENT_APPLICATIONS);
+    rankings.record(saved, application);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(saved);
   }
@@ -360,51 +541,72 @@ public class StudentApplicationController {
       @PathVariable String id,
       @Valid @RequestBody UpdateInterviewRequest request) {
 
-    // Verify application exists
-    if (!repository.existsById(id)) {
-      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
-    }
-
-    // Find existing interview
-    Interview interview = interviewRepository.findByApplicationId(id)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-            "No interview found for this application"));
-
     // Update fields if provided
-    if (request.getInterviewDate() != null) {
-      interview.setInterviewDate(request.getInterviewDate());
-    }
-    if (request.getTechnicalScore() != null) {
-      interview.setTechnicalScore(request.getTechnicalScore());
-    }
-    if (request.getCommunicationScore() != null) {
-      interview.setCommunicationScore(request.getCommunicationScore());
-    }
-    if (request.getMotivationScore() != null) {
-      interview.setMotivationScore(request.getMotivationScore());
-    }
-    if (request.getCultureFitScore() != null) {
-      interview.setCultureFitScore(request.getCultureFitScore());
-    }
-    if (request.getStrengths() != null) {
-      interview.setStrengths(request.getStrengths());
-    }
-    if (request.getConcerns() != null) {
-      interview.setConcerns(request.getConcerns());
-    }
-    if (request.getNotes() != null) {
-      interview.setNotes(request.getNotes());
-    }
-    if (request.getRecommendation() != null) {
-      interview.setRecommendation(request.getRecommendation());
+    Document fields = new Document("updatedAt", Instant.now());
+    putIfPresent(fields, "interviewDate", request.getInterviewDate());
+    putIfPresent(fields, "technicalScore", request.getTechnicalScore());
+    putIfPresent(fields, "communicationScore", request.getCommunicationScore());
+    putIfPresent(fields, "motivationScore", request.getMotivationScore());
+    putIfPresent(fields, "cultureFitScore", request.getCultureFitScore());
+    putIfPresent(fields, "strengths", request.getStrengths());
+    putIfPresent(fields, "concerns", request.getConcerns());
+    putIfPresent(fields, "notes", request.getNotes());
+    putIfPresent(fields, "recommendation",
+        request.getRecommendation() != null ? request.getRecommendation().name() : null);
+    Document currentVersion = new Document("$ifNull", List.of("$" + VersionedUpdates.VERSION, 0));
+    fields.put(VersionedUpdates.VERSION, new Document("$add", List.of(currentVersion, 1)));
+
+    // Recalculate overall score server-side from the merged scores, so a partial
+    // update still needs only one round trip
+    AggregationUpdate update = AggregationUpdate.from(List.of(
+        context -> new Document("$set", fields),
+        context -> new Document("$set", new Document("overallScore", overallScoreExpression()))));
+
+    Interview updated = versionedUpdates.modify(Criteria.where("applicationId").is(id),
+        request.getVersion(), update, true, Interview.class,
+        "No interview found for this application");
+
+    // The ranking index needs the candidate's name, school and term
+    Query applicationQuery = Query.query(Criteria.where("id").is(id));
+    applicationQuery.fields().include("fullName").include("email").include("school")
+        .include("term").include("status");
+    StudentApplication application = mongoTemplate.findOne(applicationQuery, StudentApplication.class);
+    if (application != null) {
+      rankings.record(updated, application);
     }
+    return ResponseEntity.ok(updated);
+  }
 
-    interview.setUpdatedAt(Instant.now());
-
-    // Recalculate overall score
-    interview.calculateOverallScore();
+  /**
+   * Values in an update pipeline are expressions, so strings are wrapped in $literal to
+   * keep user text starting with "$" from being read as a field path.
+   */
+  private static void putIfPresent(Document fields, String name, Object value) {
+    if (value == null) {
+      return;
+    }
+    fields.put(name, value instanceof String ? new Document("$literal", value) : value);
+  }
 
-    Interview updated = interviewRepository.save(interview);
-    return ResponseEntity.ok(updated);
+  /**
+   * Pipeline form of Interview.calculateOverallScore: the weighted average when all four
+   * scores are present, otherwise the stored overall score is left as it was.
+   */
+  private static Document overallScoreExpression() {
+    String[] scores = {"technicalScore", "communicationScore", "motivationScore", "cultureFitScore"};
+    double[] weights = {Interview.TECHNICAL_WEIGHT, Interview.COMMUNICATION_WEIGHT,
+        Interview.MOTIVATION_WEIGHT, Interview.CULTURE_FIT_WEIGHT};
+
+    List<Document> present = new ArrayList<>();
+    List<Document> weighted = new ArrayList<>();
+    for (int i = 0; i < scores.length; i++) {
+      Document score = new Document("$ifNull", Arrays.asList("$" + scores[i], null));
+      present.add(new Document("$ne", Arrays.asList(score, null)));
+      weighted.add(new Document("$multiply", List.of("$" + scores[i], weights[i])));
+    }
+    return new Document("$cond", List.of(
+        new Document("$and", present),
+        new Document("$add", weighted),
+        "$overallScore"));
   }
 }
@@ -0,0 +1,53 @@
+package edu.columbia.corefellowship.applications.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+
+  @NotEmpty(message = "At least one id is required")
+  @Size(max = 500, message = "At most 500 ids per request")
+  private List<String> ids;
+
+  @NotBlank(message = "Status is required")
+  private String status;
+
+  private String reviewedBy;
+  private String reviewNotes;
+
+  // Getters and Setters
+  public List<String> getIds() {
+    return ids;
+  }
+
+  public void setIds(List<String> ids) {
+    this.ids = ids;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public String getReviewedBy() {
+    return reviewedBy;
+  }
+
+  public void setReviewedBy(String reviewedBy) {
+    this.reviewedBy = reviewedBy;
+  }
+
+  public String getReviewNotes() {
+    return reviewNotes;
+  }
+
+  public void setReviewNotes(String reviewNotes) {
+    this.reviewNotes = reviewNotes;
+  }
+}
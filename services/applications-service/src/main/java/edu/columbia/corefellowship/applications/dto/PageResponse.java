@@ -0,0 +1,51 @@
+package edu.columbia.corefellowship.applications.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * nextCursor is opaque to clients; pass it back as the "after" parameter to fetch the
+ * following page. It is null on the last page.
+ */
+public class PageResponse<T> {
+
+  private List<T> items;
+  private String nextCursor;
+  private Integer limit;
+
+  // Constructors
+  public PageResponse() {
+  }
+
+  public PageResponse(List<T> items, String nextCursor, Integer limit) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+    this.limit = limit;
+  }
+
+  // Getters and Setters
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public void setLimit(Integer limit) {
+    this.limit = limit;
+  }
+}
@@ -10,6 +10,9 @@ public class UpdateApplicationStatusRequest {
   private String reviewedBy;
   private String reviewNotes;
 
+  // Version the client last read; when set, the update fails with 409 if it has changed
+  private Long version;
+
   // Getters and Setters
   public String getStatus() {
     return status;
@@ -34,4 +37,12 @@ public class UpdateApplicationStatusRequest {
   public void setReviewNotes(String reviewNotes) {
     this.reviewNotes = reviewNotes;
   }
-}
\ No newline at end of file
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+}
@@ -32,6 +32,9 @@ public class UpdateInterviewRequest {
   private String notes;
   private Recommendation recommendation;
 
+  // Version the client last read; when set, the update fails with 409 if it has changed
+  private Long version;
+
   // Getters and Setters
   public Instant getInterviewDate() {
     return interviewDate;
@@ -104,4 +107,12 @@ public class UpdateInterviewRequest {
   public void setRecommendation(Recommendation recommendation) {
     this.recommendation = recommendation;
   }
-}
\ No newline at end of file
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+}
@@ -0,0 +1,91 @@
+package edu.columbia.corefellowship.applications.export;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The columns of one CSV export: a header and a typed accessor per column, so each
+ * value is written by the matching CsvWriter method without going through a String.
+ */
+public final class CsvSchema<T> {
+
+  private final List<String> headers;
+  private final List<Column<T>> columns;
+
+  private CsvSchema(List<String> headers, List<Column<T>> columns) {
+    this.headers = List.copyOf(headers);
+    this.columns = List.copyOf(columns);
+  }
+
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  public void writeHeader(CsvWriter csv) throws IOException {
+    for (String header : headers) {
+      csv.text(header);
+    }
+    csv.endRow();
+  }
+
+  public void writeRow(CsvWriter csv, T row) throws IOException {
+    for (Column<T> column : columns) {
+      column.write(csv, row);
+    }
+    csv.endRow();
+  }
+
+  public List<String> getHeaders() {
+    return headers;
+  }
+
+  @FunctionalInterface
+  private interface Column<T> {
+    void write(CsvWriter csv, T row) throws IOException;
+  }
+
+  public static final class Builder<T> {
+
+    private final List<String> headers = new ArrayList<>();
+    private final List<Column<T>> columns = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    public Builder<T> text(String header, Function<T, ? extends CharSequence> value) {
+      return column(header, (csv, row) -> csv.text(value.apply(row)));
+    }
+
+    /**
+     * A list column, joined with ';' into one cell.
+     */
+    public Builder<T> list(String header, Function<T, List<String>> value) {
+      return column(header, (csv, row) -> csv.joined(value.apply(row), ';'));
+    }
+
+    public Builder<T> bool(String header, Function<T, Boolean> value) {
+      return column(header, (csv, row) -> csv.bool(value.apply(row)));
+    }
+
+    public Builder<T> number(String header, Function<T, Integer> value) {
+      return column(header, (csv, row) -> csv.number(value.apply(row)));
+    }
+
+    public Builder<T> instant(String header, Function<T, Instant> value) {
+      return column(header, (csv, row) -> csv.instant(value.apply(row)));
+    }
+
+    public CsvSchema<T> build() {
+      return new CsvSchema<>(headers, columns);
+    }
+
+    private Builder<T> column(String header, Column<T> column) {
+      headers.add(header);
+      columns.add(column);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package edu.columbia.corefellowship.applications.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Buffered CSV output that writes cells straight into one reusable char buffer.
+ *
+ * Text is escaped in a single pass while it is copied: quotes are doubled as they are
+ * seen, and only a cell that turns out to need quoting is shifted by one to make room
+ * for the opening quote. Booleans, integers and instants are formatted digit by digit,
+ * so writing a row allocates nothing.
+ */
+public final class CsvWriter {
+
+  private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+  private static final char[] TRUE = "true".toCharArray();
+  private static final char[] FALSE = "false".toCharArray();
+
+  private final Writer out;
+  private char[] buffer;
+  private int position;
+  private boolean rowStarted;
+
+  // Start of the text cell being written, and whether it needs quoting so far
+  private int cellStart;
+  private boolean cellNeedsQuotes;
+
+  public CsvWriter(Writer out) {
+    this(out, DEFAULT_BUFFER_SIZE);
+  }
+
+  public CsvWriter(Writer out, int bufferSize) {
+    this.out = out;
+    this.buffer = new char[bufferSize];
+  }
+
+  /**
+   * A text cell, quoted if it contains a comma, quote or line break; null is empty.
+   */
+  public void text(CharSequence value) throws IOException {
+    separator();
+    if (value == null) {
+      return;
+    }
+    beginText(value.length());
+    appendText(value);
+    endText();
+  }
+
+  /**
+   * Several values joined by a separator into one text cell; null is empty.
+   */
+  public void joined(List<? extends CharSequence> values, char separator) throws IOException {
+    separator();
+    if (values == null || values.isEmpty()) {
+      return;
+    }
+    int length = values.size() - 1;
+    for (int i = 0; i < values.size(); i++) {
+      CharSequence value = values.get(i);
+      length += value == null ? 4 : value.length();
+    }
+    beginText(length);
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        appendText(separator);
+      }
+      CharSequence value = values.get(i);
+      appendText(value == null ? "null" : value);
+    }
+    endText();
+  }
+
+  /**
+   * true/false; null is empty.
+   */
+  public void bool(Boolean value) throws IOException {
+    separator();
+    if (value == null) {
+      return;
+    }
+    char[] chars = value ? TRUE : FALSE;
+    ensureCapacity(chars.length);
+    System.arraycopy(chars, 0, buffer, position, chars.length);
+    position += chars.length;
+  }
+
+  /**
+   * Decimal integer; null is empty.
+   */
+  public void number(Integer value) throws IOException {
+    separator();
+    if (value == null) {
+      return;
+    }
+    ensureCapacity(11);
+    writeLong(value);
+  }
+
+  /**
+   * ISO-8601 in UTC, identical to Instant.toString(); null is empty.
+   */
+  public void instant(Instant value) throws IOException {
+    separator();
+    if (value == null) {
+      return;
+    }
+    long seconds = value.getEpochSecond();
+    long days = Math.floorDiv(seconds, 86_400);
+    int secondOfDay = (int) Math.floorMod(seconds, 86_400);
+
+    // Civil date from days since the epoch (H. Hinnant's days_from_civil, inverted)
+    long z = days + 719_468;
+    long era = Math.floorDiv(z, 146_097);
+    long dayOfEra = z - era * 146_097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long mp = (5 * dayOfYear + 2) / 153;
+    int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+    int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+    if (year < 0 || year > 9999) {
+      // Outside four-digit years ISO-8601 adds a sign; not worth hand-formatting
+      String text = value.toString();
+      ensureCapacity(text.length());
+      text.getChars(0, text.length(), buffer, position);
+      position += text.length();
+      return;
+    }
+
+    ensureCapacity(30);
+    writeDigits((int) year, 4);
+    buffer[position++] = '-';
+    writeDigits(month, 2);
+    buffer[position++] = '-';
+    writeDigits(day, 2);
+    buffer[position++] = 'T';
+    writeDigits(secondOfDay / 3600, 2);
+    buffer[position++] = ':';
+    writeDigits(secondOfDay / 60 % 60, 2);
+    buffer[position++] = ':';
+    writeDigits(secondOfDay % 60, 2);
+
+    // Like ISO_INSTANT: fraction in groups of three digits, only as many as needed
+    int nanos = value.getNano();
+    if (nanos > 0) {
+      buffer[position++] = '.';
+      if (nanos % 1_000_000 == 0) {
+        writeDigits(nanos / 1_000_000, 3);
+      } else if (nanos % 1000 == 0) {
+        writeDigits(nanos / 1000, 6);
+      } else {
+        writeDigits(nanos, 9);
+      }
+    }
+    buffer[position++] = 'Z';
+  }
+
+  /**
+   * Finish the current row.
+   */
+  public void endRow() throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = '\n';
+    rowStarted = false;
+  }
+
+  /**
+   * Write out everything buffered so far and flush the underlying writer.
+   */
+  public void flush() throws IOException {
+    drain();
+    out.flush();
+  }
+
+  private void separator() throws IOException {
+    if (rowStarted) {
+      ensureCapacity(1);
+      buffer[position++] = ',';
+    }
+    rowStarted = true;
+  }
+
+  private void beginText(int length) throws IOException {
+    // Worst case every char is a doubled quote, plus the two enclosing quotes
+    ensureCapacity(2 * length + 2);
+    cellStart = position;
+    cellNeedsQuotes = false;
+  }
+
+  private void appendText(CharSequence value) {
+    char[] chars = buffer;
+    int p = position;
+    boolean needsQuotes = cellNeedsQuotes;
+    for (int i = 0, n = value.length(); i < n; i++) {
+      char c = value.charAt(i);
+      chars[p++] = c;
+      if (c == '"') {
+        chars[p++] = '"';
+        needsQuotes = true;
+      } else if (c == ',' || c == '\n' || c == '\r') {
+        needsQuotes = true;
+      }
+    }
+    position = p;
+    cellNeedsQuotes = needsQuotes;
+  }
+
+  private void appendText(char c) {
+    buffer[position++] = c;
+    if (c == '"') {
+      buffer[position++] = '"';
+      cellNeedsQuotes = true;
+    } else if (c == ',' || c == '\n' || c == '\r') {
+      cellNeedsQuotes = true;
+    }
+  }
+
+  private void endText() {
+    if (cellNeedsQuotes) {
+      System.arraycopy(buffer, cellStart, buffer, cellStart + 1, position - cellStart);
+      buffer[cellStart] = '"';
+      position++;
+      buffer[position++] = '"';
+    }
+  }
+
+  private void writeLong(long value) {
+    if (value < 0) {
+      buffer[position++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    for (int i = position + digits - 1; i >= position; i--) {
+      buffer[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    position += digits;
+  }
+
+  private void writeDigits(int value, int width) {
+    for (int i = position + width - 1; i >= position; i--) {
+      buffer[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    position += width;
+  }
+
+  private void ensureCapacity(int needed) throws IOException {
+    if (position + needed <= buffer.length) {
+      return;
+    }
+    drain();
+    if (needed > buffer.length) {
+      // A cell larger than the buffer; grow once and keep the larger buffer
+      buffer = new char[Math.max(needed, buffer.length * 2)];
+    }
+  }
+
+  private void drain() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package edu.columbia.corefellowship.applications.export;
+
+import edu.columbia.corefellowship.applications.model.Startup;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+
+/**
+ * Column layout of the CSV exports. Order and headers are part of the export format
+ * admins import into spreadsheets; append new columns at the end.
+ */
+public final class ExportSchemas {
+
+  public static final CsvSchema<StudentApplication> STUDENT_APPLICATIONS = CsvSchema.<StudentApplication>builder()
+      .text("ID", StudentApplication::getId)
+      .text("Full Name", StudentApplication::getFullName)
+      .text("Pronouns", StudentApplication::getPronouns)
+      .text("Email", StudentApplication::getEmail)
+      .text("Grad Year", StudentApplication::getGradYear)
+      .text("School", StudentApplication::getSchool)
+      .text("Major", StudentApplication::getMajor)
+      .text("LinkedIn", StudentApplication::getLinkedinProfile)
+      .text("Portfolio", StudentApplication::getPortfolioWebsite)
+      .list("Role Preferences", StudentApplication::getRolePreferences)
+      .text("How Did You Hear", StudentApplication::getHowDidYouHear)
+      .text("Referral Source", StudentApplication::getReferralSource)
+      .bool("Previously Applied", StudentApplication::getPreviouslyApplied)
+      .bool("Previously Participated", StudentApplication::getPreviouslyParticipated)
+      .bool("Has Internship Offers", StudentApplication::getHasUpcomingInternshipOffers)
+      .text("Term", StudentApplication::getTerm)
+      .text("Status", StudentApplication::getStatus)
+      .instant("Submitted At", StudentApplication::getSubmittedAt)
+      .build();
+
+  public static final CsvSchema<Startup> STARTUPS = CsvSchema.<Startup>builder()
+      .text("ID", Startup::getId)
+      .text("Company Name", Startup::getCompanyName)
+      .text("Website", Startup::getWebsite)
+      .text("Industry", Startup::getIndustry)
+      .text("Description", Startup::getDescription)
+      .text("Stage", Startup::getStage)
+      .text("Team Size", Startup::getTeamSize)
+      .text("Founded Year", Startup::getFoundedYear)
+      .text("Contact Name", Startup::getContactName)
+      .text("Contact Title", Startup::getContactTitle)
+      .text("Contact Email", Startup::getContactEmail)
+      .text("Contact Phone", Startup::getContactPhone)
+      .text("Operating Mode", Startup::getOperatingMode)
+      .text("Time Zone", Startup::getTimeZone)
+      .text("Interns Supervisor", Startup::getInternsSupervisor)
+      .bool("Has Hired Interns Previously", Startup::getHasHiredInternsPreviously)
+      .number("Number Of Interns Needed", Startup::getNumberOfInternsNeeded)
+      .text("Will Pay Interns", Startup::getWillPayInterns)
+      .text("Pay Amount", Startup::getPayAmount)
+      .text("Looking For Permanent Intern", Startup::getLookingForPermanentIntern)
+      .text("Project Description URL", Startup::getProjectDescriptionUrl)
+      .text("Referral Source", Startup::getReferralSource)
+      .bool("Commitment Acknowledged", Startup::getCommitmentAcknowledged)
+      .text("Term", Startup::getTerm)
+      .text("Status", Startup::getStatus)
+      .instant("Submitted At", Startup::getSubmittedAt)
+      .build();
+
+  private ExportSchemas() {
+  }
+}
@@ -1,6 +1,7 @@
 package edu.columbia.corefellowship.applications.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -9,11 +10,20 @@ import java.time.Instant;
 @Document(collection = "interviews")
 public class Interview {
 
+  // Overall score weights; also used by the server-side recalculation on update
+  public static final double TECHNICAL_WEIGHT = 0.30;
+  public static final double COMMUNICATION_WEIGHT = 0.25;
+  public static final double MOTIVATION_WEIGHT = 0.25;
+  public static final double CULTURE_FIT_WEIGHT = 0.20;
+
+  public static final String APPLICATION_ID_INDEX = "applicationId";
+
   @Id
   private String id;
 
-  // Link to StudentApplication
-  @Indexed
+  // Link to StudentApplication; unique, one interview per application. Databases that have
+  // the index from before it was unique get it converted by IndexMigrations
+  @Indexed(name = Interview.APPLICATION_ID_INDEX, unique = true)
   private String applicationId;
 
   // Admin who conducted the interview
@@ -43,6 +53,10 @@ public class Interview {
   private Instant createdAt;
   private Instant updatedAt;
 
+  // Optimistic locking; bumped by every update
+  @Version
+  private Long version;
+
   // Constructors
   public Interview() {
   }
@@ -52,10 +66,10 @@ public class Interview {
     if (technicalScore != null && communicationScore != null &&
         motivationScore != null && cultureFitScore != null) {
       // Weighted average: technical 30%, communication 25%, motivation 25%, culture fit 20%
-      this.overallScore = (technicalScore * 0.30) +
-                         (communicationScore * 0.25) +
-                         (motivationScore * 0.25) +
-                         (cultureFitScore * 0.20);
+      this.overallScore = (technicalScore * TECHNICAL_WEIGHT) +
+                         (communicationScore * COMMUNICATION_WEIGHT) +
+                         (motivationScore * MOTIVATION_WEIGHT) +
+                         (cultureFitScore * CULTURE_FIT_WEIGHT);
     }
   }
 
@@ -187,4 +201,12 @@ public class Interview {
   public void setUpdatedAt(Instant updatedAt) {
     this.updatedAt = updatedAt;
   }
-}
\ No newline at end of file
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+}
@@ -1,6 +1,9 @@
 package edu.columbia.corefellowship.applications.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -8,6 +11,17 @@ import java.time.Instant;
 import java.util.List;
 
 @Document(collection = "student_applications")
+@CompoundIndexes({
+    // The filtered indexes end in (submittedAt, _id) so keyset pages are read in index order
+    // instead of sorted in memory. findByTermAndStatus and term+status pages
+    @CompoundIndex(name = "term_status_submittedAt_id", def = "{'term': 1, 'status': 1, 'submittedAt': -1, '_id': -1}"),
+    // findByTerm and term-only pages; status would sit between term and the sort keys
+    @CompoundIndex(name = "term_submittedAt_id", def = "{'term': 1, 'submittedAt': -1, '_id': -1}"),
+    // findByStatus without a term
+    @CompoundIndex(name = "status_submittedAt_id", def = "{'status': 1, 'submittedAt': -1, '_id': -1}"),
+    // Unfiltered keyset pagination over (submittedAt, _id)
+    @CompoundIndex(name = "submittedAt_id", def = "{'submittedAt': -1, '_id': -1}")
+})
 public class StudentApplication {
 
   @Id
@@ -23,6 +37,7 @@ public class StudentApplication {
   private String gradYear; // 2026, 2027, 2028, 2029
   private String school;
   private String major;
+  @Indexed
   private String email;
   private String linkedinProfile;
   private String portfolioWebsite; // Portfolio/Personal Website/Github
@@ -57,6 +72,10 @@ public class StudentApplication {
   private String reviewedBy;
   private String reviewNotes;
 
+  // Optimistic locking; bumped by every update
+  @Version
+  private Long version;
+
   // Constructors
   public StudentApplication() {
   }
@@ -301,4 +320,12 @@ public class StudentApplication {
   public void setReviewNotes(String reviewNotes) {
     this.reviewNotes = reviewNotes;
   }
-}
\ No newline at end of file
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+}
@@ -0,0 +1,219 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import edu.columbia.corefellowship.applications.dto.BulkStatusUpdateRequest;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves many student applications or startups to one status in a single round trip.
+ *
+ * The current term/status/version of the targets is read with one projected query, then
+ * every change is sent as one unordered bulkWrite of $set updates - no per-document
+ * findById and full-document save. Each update only matches the status and version that
+ * were read, so a document changed or deleted in between is reported as conflict or
+ * not_found instead of updated, and the counters are only moved for writes that landed.
+ */
+@Service
+public class BulkStatusUpdater {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkStatusUpdater.class);
+
+  public static final String UPDATED = "updated";
+  public static final String UNCHANGED = "unchanged";
+  public static final String NOT_FOUND = "not_found";
+  public static final String CONFLICT = "conflict";
+  public static final String FAILED = "failed";
+
+  private final MongoTemplate mongoTemplate;
+  private final StatusCounterService statusCounters;
+  private final ExportCache exportCache;
+  private final InterviewRankingService rankings;
+
+  public BulkStatusUpdater(MongoTemplate mongoTemplate,
+                           StatusCounterService statusCounters,
+                           ExportCache exportCache,
+                           InterviewRankingService rankings) {
+    this.mongoTemplate = mongoTemplate;
+    this.statusCounters = statusCounters;
+    this.exportCache = exportCache;
+    this.rankings = rankings;
+  }
+
+  /**
+   * Apply the requested status to every id.
+   *
+   * @return summary counts plus the outcome per id: updated, unchanged, not_found,
+   *         conflict (changed by another request since it was read) or failed
+   */
+  public Map<String, Object> apply(Kind kind, BulkStatusUpdateRequest request) {
+    // ObjectId hex is case-insensitive, so "ABC.." and "abc.." are the same document
+    Set<String> ids = new LinkedHashSet<>();
+    for (String id : request.getIds()) {
+      ids.add(ObjectId.isValid(id) ? id.toLowerCase(Locale.ROOT) : id);
+    }
+    String newStatus = request.getStatus();
+
+    // Raw documents bypass entity mapping, so ids are matched as ObjectIds explicitly
+    List<ObjectId> objectIds = new ArrayList<>();
+    for (String id : ids) {
+      if (ObjectId.isValid(id)) {
+        objectIds.add(new ObjectId(id));
+      }
+    }
+
+    Query current = Query.query(Criteria.where("_id").in(objectIds));
+    current.fields().include("term").include("status").include(VersionedUpdates.VERSION);
+    Map<String, Document> existing = new LinkedHashMap<>();
+    for (Document doc : mongoTemplate.find(current, Document.class, kind.getCollection())) {
+      existing.put(doc.getObjectId("_id").toHexString(), doc);
+    }
+
+    Map<String, String> results = new LinkedHashMap<>();
+    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, kind.getCollection());
+    // Millisecond precision, as stored, so the write can be recognized when re-read
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    List<String> queued = new ArrayList<>();
+
+    for (String id : ids) {
+      Document doc = existing.get(id);
+      if (doc == null) {
+        results.put(id, NOT_FOUND);
+        continue;
+      }
+      if (newStatus.equals(doc.getString("status"))
+          && request.getReviewedBy() == null && request.getReviewNotes() == null) {
+        results.put(id, UNCHANGED);
+        continue;
+      }
+
+      Update update = Update.update("status", newStatus)
+          .set("updatedAt", now)
+          .inc(VersionedUpdates.VERSION, 1);
+      if (request.getReviewedBy() != null) {
+        update.set("reviewedBy", request.getReviewedBy());
+      }
+      if (request.getReviewNotes() != null) {
+        update.set("reviewNotes", request.getReviewNotes());
+      }
+      // Only the state that was read: the counters move from that status
+      Query expected = Query.query(Criteria.where("_id").is(doc.getObjectId("_id"))
+          .and("status").is(doc.getString("status"))
+          .and(VersionedUpdates.VERSION).is(doc.get(VersionedUpdates.VERSION)));
+      bulk.updateOne(expected, update);
+      queued.add(id);
+    }
+
+    if (!queued.isEmpty()) {
+      int applied = statusCounters.write(kind, counts -> {
+        resolve(kind, queued, execute(bulk, queued, results), existing, now, results);
+
+        int updated = 0;
+        for (String id : queued) {
+          if (!UPDATED.equals(results.get(id))) {
+            continue;
+          }
+          updated++;
+          Document doc = existing.get(id);
+          counts.statusChanged(doc.getString("term"), doc.getString("status"), newStatus);
+          // Only student applications are interviewed and ranked
+          if (kind == Kind.STUDENT_APPLICATIONS) {
+            rankings.updateStatus(id, newStatus);
+          }
+        }
+        return updated;
+      });
+      if (applied > 0) {
+        exportCache.invalidate(kind);
+      }
+    }
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("requested", ids.size());
+    response.put(UPDATED, count(results, UPDATED));
+    response.put(UNCHANGED, count(results, UNCHANGED));
+    response.put(NOT_FOUND, count(results, NOT_FOUND));
+    response.put(CONFLICT, count(results, CONFLICT));
+    response.put(FAILED, count(results, FAILED));
+    response.put("results", results);
+    return response;
+  }
+
+  /**
+   * Run the bulk write. On a partial failure the failed updates are marked as such and the
+   * result of the others is returned, so they are still accounted for.
+   */
+  private static BulkWriteResult execute(BulkOperations bulk, List<String> queued, Map<String, String> results) {
+    try {
+      return bulk.execute();
+    } catch (BulkOperationException e) {
+      for (BulkWriteError error : e.getErrors()) {
+        results.put(queued.get(error.getIndex()), FAILED);
+      }
+      log.warn("{} of {} bulk status updates failed, first: {}",
+          e.getErrors().size(), queued.size(), e.getErrors().get(0).getMessage());
+      return e.getResult();
+    }
+  }
+
+  /**
+   * Work out which queued updates matched. The write result only has a total, so when it
+   * is short of the updates sent, the targets are re-read: ours are the ones carrying this
+   * request's updatedAt and the next version; the rest were changed or deleted meanwhile.
+   */
+  private void resolve(Kind kind, List<String> queued, BulkWriteResult result,
+                       Map<String, Document> existing, Instant now, Map<String, String> results) {
+    List<String> pending = queued.stream().filter(id -> !results.containsKey(id)).toList();
+    if (result.getMatchedCount() == pending.size()) {
+      pending.forEach(id -> results.put(id, UPDATED));
+      return;
+    }
+
+    Query reread = Query.query(Criteria.where("_id").in(pending.stream().map(ObjectId::new).toList()));
+    reread.fields().include("updatedAt").include(VersionedUpdates.VERSION);
+    Map<String, Document> after = new LinkedHashMap<>();
+    for (Document doc : mongoTemplate.find(reread, Document.class, kind.getCollection())) {
+      after.put(doc.getObjectId("_id").toHexString(), doc);
+    }
+    for (String id : pending) {
+      Document doc = after.get(id);
+      if (doc == null) {
+        results.put(id, NOT_FOUND);
+        continue;
+      }
+      Number readVersion = existing.get(id).get(VersionedUpdates.VERSION, Number.class);
+      long expectedVersion = (readVersion != null ? readVersion.longValue() : 0L) + 1;
+      Number version = doc.get(VersionedUpdates.VERSION, Number.class);
+      Date updatedAt = doc.getDate("updatedAt");
+      boolean ours = version != null && version.longValue() == expectedVersion
+          && updatedAt != null && updatedAt.toInstant().equals(now);
+      results.put(id, ours ? UPDATED : CONFLICT);
+    }
+  }
+
+  private static long count(Map<String, String> results, String outcome) {
+    return results.values().stream().filter(outcome::equals).count();
+  }
+}
@@ -0,0 +1,265 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small in-memory cache of gzip-compressed export bodies.
+ *
+ * Entries are keyed by (endpoint, term, status, data version). The data version of a
+ * collection is a counter in the export_versions collection, bumped by invalidate()
+ * whenever the application writes to it. Because it lives in Mongo, a write handled by
+ * one instance changes the key every other instance looks up, so none of them serves an
+ * export from before it. invalidate() also drops the local entries of that collection.
+ * Entries additionally expire after a TTL so writes made outside this service (scripts,
+ * seeders) are picked up eventually.
+ *
+ * Heap use is bounded by one budget, export-cache.max-total-size, shared by the cached
+ * entries and the copies exports keep while they stream. A copy claims budget as it grows
+ * and is dropped (the export still streams) once it would exceed max-entry-size or the
+ * budget; so any number of concurrent exports cannot hold more than the budget between them.
+ */
+@Service
+public class ExportCache {
+
+  static final String VERSIONS = "export_versions";
+
+  private final int maxEntries;
+  private final long maxEntryBytes;
+  private final long maxTotalBytes;
+  private final Duration ttl;
+  private final MongoTemplate mongoTemplate;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  // Bytes claimed by cached entries and in-flight copies together
+  private final AtomicLong used = new AtomicLong();
+
+  public ExportCache(
+      MongoTemplate mongoTemplate,
+      @Value("${export-cache.max-entries:16}") int maxEntries,
+      @Value("${export-cache.max-entry-size:4MB}") DataSize maxEntrySize,
+      @Value("${export-cache.max-total-size:32MB}") DataSize maxTotalSize,
+      @Value("${export-cache.ttl:5m}") Duration ttl) {
+    this.mongoTemplate = mongoTemplate;
+    this.maxEntries = maxEntries;
+    this.maxEntryBytes = maxEntrySize.toBytes();
+    this.maxTotalBytes = maxTotalSize.toBytes();
+    this.ttl = ttl;
+  }
+
+  /**
+   * Current data version of a collection, shared by all instances; 0 if it was never
+   * written through this service.
+   */
+  public long version(Kind kind) {
+    if (maxEntries <= 0) {
+      return 0;
+    }
+    Document version = mongoTemplate.findById(kind.getCollection(), Document.class, VERSIONS);
+    Number value = version != null ? version.get("version", Number.class) : null;
+    return value != null ? value.longValue() : 0;
+  }
+
+  /**
+   * Mark a collection as changed. Cached exports of it are dropped here and no longer
+   * match on other instances.
+   */
+  public void invalidate(Kind kind) {
+    // Bumped even with the cache disabled here, other instances may have it enabled
+    mongoTemplate.upsert(Query.query(Criteria.where("_id").is(kind.getCollection())),
+        new Update().inc("version", 1), VERSIONS);
+    entries.forEach((key, entry) -> {
+      if (entry.kind == kind) {
+        remove(key, entry);
+      }
+    });
+  }
+
+  public String key(Kind kind, String endpoint, String term, String status, long version) {
+    return endpoint + "|" + (term != null ? term : "*") + "|" + (status != null ? status : "*")
+        + "|" + kind.name() + "@" + version;
+  }
+
+  /**
+   * @return the cached gzip body, or null on a miss
+   */
+  public byte[] get(String key) {
+    if (maxEntries <= 0) {
+      return null;
+    }
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.createdAt.plus(ttl).isBefore(Instant.now())) {
+      remove(key, entry);
+      return null;
+    }
+    return entry.body;
+  }
+
+  /**
+   * Store the gzip body a capture kept, built from the given data version. Ignored if it
+   * outgrew its limits or the collection changed while the export was being written.
+   * Either way the capture's claim on the budget is passed to the entry or given back.
+   */
+  public void put(String key, Kind kind, long version, CapturingOutputStream capture) {
+    byte[] gzipped = capture.captured();
+    if (gzipped == null) {
+      return;
+    }
+    if (maxEntries <= 0 || version(kind) != version) {
+      capture.discard();
+      return;
+    }
+    capture.claimed = 0;
+    while (entries.size() >= maxEntries) {
+      // Evict the oldest entry; the cache is tiny so a scan is fine
+      evictOldest();
+    }
+    Entry previous = entries.put(key, new Entry(kind, gzipped, Instant.now()));
+    if (previous != null) {
+      release(previous.body.length);
+    }
+  }
+
+  /**
+   * Wrap a response stream so the bytes written to it are also captured for the cache,
+   * within the per-entry size limit and the shared budget. The caller must discard() it
+   * once the export is done, after put() or when it failed.
+   */
+  public CapturingOutputStream capture(OutputStream target) {
+    return new CapturingOutputStream(target, maxEntries > 0 ? maxEntryBytes : 0);
+  }
+
+  /**
+   * Claim budget for len more bytes, evicting the oldest entries to make room.
+   */
+  private boolean claim(long len) {
+    while (true) {
+      long current = used.get();
+      if (current + len <= maxTotalBytes) {
+        if (used.compareAndSet(current, current + len)) {
+          return true;
+        }
+      } else if (!evictOldest()) {
+        return false;
+      }
+    }
+  }
+
+  // Budget in use by entries and in-flight copies
+  long usedBytes() {
+    return used.get();
+  }
+
+  private void release(long len) {
+    used.addAndGet(-len);
+  }
+
+  /**
+   * @return false if there was nothing left to evict
+   */
+  private boolean evictOldest() {
+    Optional<Map.Entry<String, Entry>> oldest = entries.entrySet().stream()
+        .min(Comparator.comparing(e -> e.getValue().createdAt));
+    oldest.ifPresent(e -> remove(e.getKey(), e.getValue()));
+    return oldest.isPresent();
+  }
+
+  private void remove(String key, Entry entry) {
+    // Only the thread that actually removed it gives its bytes back
+    if (entries.remove(key, entry)) {
+      release(entry.body.length);
+    }
+  }
+
+  private static final class Entry {
+
+    private final Kind kind;
+    private final byte[] body;
+    private final Instant createdAt;
+
+    private Entry(Kind kind, byte[] body, Instant createdAt) {
+      this.kind = kind;
+      this.body = body;
+      this.createdAt = createdAt;
+    }
+  }
+
+  /**
+   * Passes bytes through to the response and keeps a copy until the limit or the shared
+   * budget is exceeded.
+   */
+  public final class CapturingOutputStream extends FilterOutputStream {
+
+    private final long limit;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    // Budget claimed for the copy and not yet handed to an entry or released
+    private long claimed;
+
+    private CapturingOutputStream(OutputStream target, long limit) {
+      super(target);
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      keep(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      keep(b, off, len);
+    }
+
+    /**
+     * @return everything written, or null if it outgrew the limit
+     */
+    public byte[] captured() {
+      return copy != null ? copy.toByteArray() : null;
+    }
+
+    /**
+     * Drop the copy and give back whatever budget it still holds. Safe to call repeatedly.
+     */
+    public void discard() {
+      copy = null;
+      release(claimed);
+      claimed = 0;
+    }
+
+    private void keep(byte[] b, int off, int len) {
+      if (copy == null) {
+        return;
+      }
+      if (copy.size() + len > limit || !claim(len)) {
+        // Too big to cache - stop copying and release what we have
+        discard();
+        return;
+      }
+      claimed += len;
+      copy.write(b, off, len);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package edu.columbia.corefellowship.applications.service;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a {@code fields=} request parameter into a Mongo field projection, so list
+ * endpoints only read and ship the columns the caller asked for.
+ *
+ * The parameter is either a comma-separated list of document field names or
+ * "summary" for the endpoint's preset. id and submittedAt are always included because
+ * keyset pagination needs them. Fields that are not projected come back as null on the
+ * mapped document; ProjectedJson leaves them out of the response.
+ */
+public final class FieldProjection {
+
+  public static final String SUMMARY = "summary";
+
+  private static final List<String> ALWAYS_INCLUDED = List.of("id", "submittedAt");
+  private static final Map<Class<?>, Set<String>> FIELD_NAMES = new ConcurrentHashMap<>();
+
+  private FieldProjection() {
+  }
+
+  /**
+   * Restrict the query to the requested fields.
+   *
+   * @param query         Query to add the projection to
+   * @param fields        Value of the fields parameter; null or blank leaves the query unchanged
+   * @param type          Document class, used to reject unknown field names
+   * @param summaryFields Fields returned for fields=summary
+   * @return true if a projection was applied
+   */
+  public static boolean apply(Query query, String fields, Class<?> type, List<String> summaryFields) {
+    if (fields == null || fields.isBlank()) {
+      return false;
+    }
+
+    Set<String> requested = new LinkedHashSet<>(ALWAYS_INCLUDED);
+    if (SUMMARY.equalsIgnoreCase(fields.trim())) {
+      requested.addAll(summaryFields);
+    } else {
+      Set<String> known = FIELD_NAMES.computeIfAbsent(type, FieldProjection::fieldNames);
+      for (String field : fields.split(",")) {
+        String name = field.trim();
+        if (name.isEmpty()) {
+          continue;
+        }
+        if (!known.contains(name)) {
+          throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + name);
+        }
+        requested.add(name);
+      }
+    }
+
+    requested.forEach(name -> query.fields().include(name));
+    return true;
+  }
+
+  private static Set<String> fieldNames(Class<?> type) {
+    return Arrays.stream(type.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(Field::getName)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -0,0 +1,147 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.MongoException;
+import edu.columbia.corefellowship.applications.model.Interview;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+/**
+ * Creates an interview and moves its application to "interviewed".
+ *
+ * The unique index on Interview.applicationId is the duplicate check, so there is no
+ * exists() pre-query for concurrent creates to race past: the second insert fails with
+ * a duplicate key and becomes a 409. The application is looked up first, so a missing one
+ * is a 404 before anything is written.
+ *
+ * With mongo.transactions-enabled (replica set required) the lookup, insert and status
+ * $set run in one transaction. Concurrent creates for the same application then abort
+ * each other with a transient WriteConflict rather than a duplicate key; the transaction
+ * is retried, and the retry sees the committed interview and turns into the 409. On a
+ * standalone server the steps run in order, and only an application deleted between the
+ * lookup and the $set leaves an interview to clean up.
+ */
+@Service
+public class InterviewCreator {
+
+  public static final String INTERVIEWED = "interviewed";
+
+  // Attempts of the whole transaction when it is aborted by a concurrent one
+  static final int TRANSACTION_ATTEMPTS = 5;
+
+  private static final String TRANSIENT_TRANSACTION_ERROR = "TransientTransactionError";
+
+  private final MongoTemplate mongoTemplate;
+  private final TransactionTemplate transactions;
+
+  public InterviewCreator(MongoTemplate mongoTemplate,
+                          ObjectProvider<MongoTransactionManager> transactionManager) {
+    this.mongoTemplate = mongoTemplate;
+    MongoTransactionManager manager = transactionManager.getIfAvailable();
+    this.transactions = manager != null ? new TransactionTemplate(manager) : null;
+  }
+
+  /**
+   * Insert the interview and set its application's status.
+   *
+   * @param interview New interview; applicationId must be set
+   * @return the stored interview together with the application as it was before the change
+   */
+  public Created create(Interview interview) {
+    if (transactions == null) {
+      return insertAndTransition(interview);
+    }
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactions.execute(status -> insertAndTransition(interview));
+      } catch (RuntimeException e) {
+        // Translated DataAccessExceptions from the writes, TransactionSystemException from commit
+        if (!isTransient(e)) {
+          throw e;
+        }
+        if (attempt == TRANSACTION_ATTEMPTS) {
+          throw new ResponseStatusException(HttpStatus.CONFLICT,
+              "Application is being changed by another request; retry");
+        }
+        // The aborted attempt wrote nothing; a fresh insert gets its own id
+        interview.setId(null);
+      }
+    }
+  }
+
+  private Created insertAndTransition(Interview interview) {
+    if (!mongoTemplate.exists(Query.query(Criteria.where("id").is(interview.getApplicationId())),
+        StudentApplication.class)) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+    }
+
+    Interview saved;
+    try {
+      saved = mongoTemplate.insert(interview);
+    } catch (DuplicateKeyException e) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT,
+          "Interview already exists for this application. Use PATCH to update.");
+    }
+
+    StudentApplication previous = mongoTemplate.findAndModify(
+        Query.query(Criteria.where("id").is(interview.getApplicationId())),
+        Update.update("status", INTERVIEWED)
+            .set("updatedAt", Instant.now())
+            .inc(VersionedUpdates.VERSION, 1),
+        FindAndModifyOptions.options().returnNew(false),
+        StudentApplication.class);
+
+    if (previous == null) {
+      // Deleted since the lookup. Rolled back inside a transaction; removed here on standalone
+      mongoTemplate.remove(saved);
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+    }
+    return new Created(saved, previous);
+  }
+
+  /**
+   * Whether the server labelled the failure as safe to retry as a whole transaction.
+   */
+  private static boolean isTransient(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoException mongo && mongo.hasErrorLabel(TRANSIENT_TRANSACTION_ERROR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Result of a successful create: the interview and the application's pre-image.
+   */
+  public static final class Created {
+
+    private final Interview interview;
+    private final StudentApplication previousApplication;
+
+    public Created(Interview interview, StudentApplication previousApplication) {
+      this.interview = interview;
+      this.previousApplication = previousApplication;
+    }
+
+    public Interview getInterview() {
+      return interview;
+    }
+
+    public StudentApplication getPreviousApplication() {
+      return previousApplication;
+    }
+  }
+}
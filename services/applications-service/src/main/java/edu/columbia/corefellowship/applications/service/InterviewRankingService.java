@@ -0,0 +1,421 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.model.Interview;
+import edu.columbia.corefellowship.applications.model.Recommendation;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory ranking of interviewed candidates by overall interview score, per term.
+ *
+ * The index is built from a $lookup of interviews onto student_applications on startup
+ * and on a periodic reconcile, and is updated in place by createInterview/updateInterview,
+ * status changes and deletes. Ranking queries read the already-sorted index only and never
+ * touch Mongo.
+ *
+ * A rebuild reads Mongo while requests keep updating the live index. Every update made in
+ * that window is also queued and replayed onto the rebuilt index before it is swapped in,
+ * so a change the aggregation missed is not lost until the next reconcile.
+ *
+ * The locks are ReentrantLocks rather than monitors: the rebuild holds one across the Mongo
+ * aggregation, and a virtual thread blocked inside a synchronized block pins its carrier.
+ */
+@Service
+public class InterviewRankingService {
+
+  private static final Logger log = LoggerFactory.getLogger(InterviewRankingService.class);
+
+  // Order: highest score first, application id as a stable tie-breaker
+  private static final Comparator<RankedCandidate> BY_SCORE = Comparator
+      .comparingDouble(RankedCandidate::getOverallScore).reversed()
+      .thenComparing(RankedCandidate::getApplicationId);
+
+  private static final double[] PERCENTILES = {25, 50, 75, 90};
+
+  private final MongoTemplate mongoTemplate;
+  private final Duration refreshMinInterval;
+  private final Lock updateLock = new ReentrantLock();
+  private final Lock rebuildLock = new ReentrantLock();
+  private volatile Index index = new Index();
+  // Updates made while a rebuild is running; null when no rebuild is in progress
+  private List<Consumer<Index>> pending;
+  private volatile Instant lastRebuilt = Instant.MIN;
+
+  public InterviewRankingService(
+      MongoTemplate mongoTemplate,
+      @Value("${stats.refresh-min-interval-ms:30000}") long refreshMinIntervalMs) {
+    this.mongoTemplate = mongoTemplate;
+    this.refreshMinInterval = Duration.ofMillis(refreshMinIntervalMs);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void seed() {
+    // An empty ranking must not keep the service from starting; the scheduled reconcile retries
+    try {
+      reconcile();
+    } catch (RuntimeException e) {
+      log.error("Initial interview ranking build failed, retrying on the next reconcile", e);
+    }
+  }
+
+  /**
+   * Rebuild the index from Mongo: interviews joined to their applications with $lookup.
+   *
+   * Interviews whose applicationId is not a valid ObjectId match no application and are
+   * skipped; an unknown recommendation is ranked without one. Neither fails the rebuild.
+   */
+  @Scheduled(
+      initialDelayString = "${stats.reconcile-interval-ms:300000}",
+      fixedDelayString = "${stats.reconcile-interval-ms:300000}")
+  public void reconcile() {
+    rebuildLock.lock();
+    try {
+      rebuildLocked();
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  /**
+   * Rebuild on request, unless one finished less than stats.refresh-min-interval-ms ago
+   * or one is running right now.
+   *
+   * @return whether this call rebuilt the index
+   */
+  public boolean refresh() {
+    if (isRecent() || !rebuildLock.tryLock()) {
+      return false;
+    }
+    try {
+      // A rebuild may have finished while this one waited for the check above
+      if (isRecent()) {
+        return false;
+      }
+      rebuildLocked();
+      return true;
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private boolean isRecent() {
+    return Instant.now().isBefore(lastRebuilt.plus(refreshMinInterval));
+  }
+
+  private void rebuildLocked() {
+    setPending(new ArrayList<>());
+    try {
+      // Only rebuildLock is held during the aggregation; updates keep going to the live index
+      Index fresh = build();
+      updateLock.lock();
+      try {
+        pending.forEach(update -> update.accept(fresh));
+        index = fresh;
+      } finally {
+        updateLock.unlock();
+      }
+      lastRebuilt = Instant.now();
+    } finally {
+      setPending(null);
+    }
+  }
+
+  private void setPending(List<Consumer<Index>> updates) {
+    updateLock.lock();
+    try {
+      pending = updates;
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private Index build() {
+    Aggregation aggregation = Aggregation.newAggregation(
+        Aggregation.match(Criteria.where("overallScore").ne(null)),
+        // applicationId is stored as a string; _id on applications is an ObjectId. $convert
+        // with onError yields null for malformed ids where $toObjectId would fail the pipeline
+        context -> new Document("$addFields", new Document("applicationObjectId",
+            new Document("$convert", new Document("input", "$applicationId")
+                .append("to", "objectId")
+                .append("onError", null)
+                .append("onNull", null)))),
+        Aggregation.lookup("student_applications", "applicationObjectId", "_id", "application"),
+        Aggregation.unwind("application"),
+        Aggregation.project("applicationId", "overallScore", "recommendation")
+            .and("application.fullName").as("fullName")
+            .and("application.email").as("email")
+            .and("application.school").as("school")
+            .and("application.term").as("term")
+            .and("application.status").as("status")
+    );
+    AggregationResults<Document> results =
+        mongoTemplate.aggregate(aggregation, "interviews", Document.class);
+
+    Index fresh = new Index();
+    int unknownRecommendations = 0;
+    for (Document row : results) {
+      Object score = row.get("overallScore");
+      if (!(score instanceof Number number)) {
+        continue;
+      }
+      Recommendation recommendation = parseRecommendation(row.get("recommendation"));
+      if (recommendation == null && row.get("recommendation") != null) {
+        unknownRecommendations++;
+      }
+      fresh.put(new RankedCandidate(
+          row.getString("applicationId"),
+          row.getString("fullName"),
+          row.getString("email"),
+          row.getString("school"),
+          row.getString("term"),
+          row.getString("status"),
+          number.doubleValue(),
+          recommendation));
+    }
+    if (unknownRecommendations > 0) {
+      log.warn("Ranked {} interviews without their unknown recommendation value", unknownRecommendations);
+    }
+    return fresh;
+  }
+
+  private static Recommendation parseRecommendation(Object value) {
+    if (!(value instanceof String name)) {
+      return null;
+    }
+    try {
+      return Recommendation.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Add or update a candidate after its interview was created or changed.
+   * Interviews without a complete score are removed from the ranking.
+   */
+  public void record(Interview interview, StudentApplication application) {
+    if (interview.getOverallScore() == null) {
+      remove(application.getId());
+      return;
+    }
+    RankedCandidate candidate = new RankedCandidate(
+        application.getId(),
+        application.getFullName(),
+        application.getEmail(),
+        application.getSchool(),
+        application.getTerm(),
+        application.getStatus(),
+        interview.getOverallScore(),
+        interview.getRecommendation());
+    apply(target -> target.put(candidate));
+  }
+
+  /**
+   * Carry an application's new status into its ranked entry; a no-op if it is not ranked.
+   */
+  public void updateStatus(String applicationId, String status) {
+    apply(target -> target.updateStatus(applicationId, status));
+  }
+
+  public void remove(String applicationId) {
+    apply(target -> target.remove(applicationId));
+  }
+
+  private void apply(Consumer<Index> update) {
+    updateLock.lock();
+    try {
+      update.accept(index);
+      if (pending != null) {
+        pending.add(update);
+      }
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Ranking summary for one term.
+   *
+   * @param term Term to rank, or null for every candidate regardless of term
+   * @param k    Number of top candidates to return
+   * @return top-K candidates, score percentiles and the recommendation distribution
+   */
+  public Map<String, Object> ranking(String term, int k) {
+    // Copy once so concurrent updates cannot change the set mid-way
+    List<RankedCandidate> ranked = new ArrayList<>(index.ranked(term));
+
+    double[] scores = new double[ranked.size()];
+    Map<Recommendation, Integer> recommendations = new EnumMap<>(Recommendation.class);
+    for (int i = 0; i < ranked.size(); i++) {
+      RankedCandidate candidate = ranked.get(i);
+      // Descending order, so fill from the end to get ascending scores
+      scores[scores.length - 1 - i] = candidate.getOverallScore();
+      if (candidate.getRecommendation() != null) {
+        recommendations.merge(candidate.getRecommendation(), 1, Integer::sum);
+      }
+    }
+    List<RankedCandidate> top = ranked.subList(0, Math.min(k, ranked.size()));
+
+    Map<String, Double> percentiles = new LinkedHashMap<>();
+    for (double p : PERCENTILES) {
+      percentiles.put("p" + (int) p, percentile(scores, p));
+    }
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("term", term);
+    result.put("interviewed", scores.length);
+    result.put("top", top);
+    result.put("percentiles", percentiles);
+    result.put("recommendations", recommendations);
+    return result;
+  }
+
+  /**
+   * Nearest-rank percentile of an ascending array; null when there are no scores.
+   */
+  private static Double percentile(double[] ascending, double p) {
+    if (ascending.length == 0) {
+      return null;
+    }
+    int rank = (int) Math.ceil(p / 100.0 * ascending.length);
+    return ascending[Math.max(0, rank - 1)];
+  }
+
+  /**
+   * Sorted sets per term plus a by-application lookup for in-place updates. Changes only
+   * happen under updateLock; reads go to the concurrent sets without it.
+   */
+  private static final class Index {
+
+    private final Map<String, NavigableSet<RankedCandidate>> byTerm = new ConcurrentHashMap<>();
+    private final NavigableSet<RankedCandidate> all = new ConcurrentSkipListSet<>(BY_SCORE);
+    private final Map<String, RankedCandidate> byApplication = new ConcurrentHashMap<>();
+
+    void put(RankedCandidate candidate) {
+      remove(candidate.getApplicationId());
+      byApplication.put(candidate.getApplicationId(), candidate);
+      all.add(candidate);
+      byTerm.computeIfAbsent(termKey(candidate.getTerm()), key -> new ConcurrentSkipListSet<>(BY_SCORE))
+          .add(candidate);
+    }
+
+    void updateStatus(String applicationId, String status) {
+      RankedCandidate previous = byApplication.get(applicationId);
+      if (previous == null) {
+        return;
+      }
+      put(new RankedCandidate(previous.getApplicationId(), previous.getFullName(), previous.getEmail(),
+          previous.getSchool(), previous.getTerm(), status, previous.getOverallScore(),
+          previous.getRecommendation()));
+    }
+
+    void remove(String applicationId) {
+      RankedCandidate previous = byApplication.remove(applicationId);
+      if (previous == null) {
+        return;
+      }
+      all.remove(previous);
+      NavigableSet<RankedCandidate> termSet = byTerm.get(termKey(previous.getTerm()));
+      if (termSet != null) {
+        termSet.remove(previous);
+      }
+    }
+
+    NavigableSet<RankedCandidate> ranked(String term) {
+      if (term == null) {
+        return all;
+      }
+      return byTerm.getOrDefault(termKey(term), new ConcurrentSkipListSet<>(BY_SCORE));
+    }
+
+    private static String termKey(String term) {
+      return term == null || term.isBlank() ? StatusCounterService.UNASSIGNED_TERM : term;
+    }
+  }
+
+  /**
+   * One interviewed candidate in the ranking.
+   */
+  public static final class RankedCandidate {
+
+    private final String applicationId;
+    private final String fullName;
+    private final String email;
+    private final String school;
+    private final String term;
+    private final String status;
+    private final double overallScore;
+    private final Recommendation recommendation;
+
+    public RankedCandidate(String applicationId, String fullName, String email, String school,
+                           String term, String status, double overallScore,
+                           Recommendation recommendation) {
+      this.applicationId = applicationId;
+      this.fullName = fullName;
+      this.email = email;
+      this.school = school;
+      this.term = term;
+      this.status = status;
+      this.overallScore = overallScore;
+      this.recommendation = recommendation;
+    }
+
+    public String getApplicationId() {
+      return applicationId;
+    }
+
+    public String getFullName() {
+      return fullName;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getSchool() {
+      return school;
+    }
+
+    public String getTerm() {
+      return term;
+    }
+
+    public String getStatus() {
+      return status;
+    }
+
+    public double getOverallScore() {
+      return overallScore;
+    }
+
+    public Recommendation getRecommendation() {
+      return recommendation;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.dto.PageResponse;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination over (submittedAt, _id).
+ *
+ * Each page is a single indexed range query that starts where the previous page ended,
+ * so fetching page N costs the same as fetching page 1 - unlike skip/offset, which has
+ * to walk every earlier document.
+ *
+ * Documents without a submittedAt sort before every dated one in Mongo, so they form the
+ * first pages of an ascending walk and the last pages of a descending one. Their cursors
+ * carry "null" instead of a timestamp and continue on _id among the undated documents.
+ */
+@Service
+public class KeysetPaginator {
+
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 200;
+
+  private static final String NULL_SUBMITTED_AT = "null";
+
+  private final MongoTemplate mongoTemplate;
+
+  public KeysetPaginator(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Fetch one page of documents matching the filter.
+   *
+   * @param filter      Query holding the caller's filter criteria
+   * @param type        Document class
+   * @param limit       Requested page size (clamped to 1..MAX_LIMIT)
+   * @param after       Cursor returned by the previous page, or null for the first page
+   * @param order       "asc" for oldest first, anything else for newest first
+   * @param submittedAt Accessor for the document's submittedAt
+   * @param id          Accessor for the document's id
+   */
+  public <T> PageResponse<T> page(
+      Query filter,
+      Class<T> type,
+      Integer limit,
+      String after,
+      String order,
+      Function<T, Instant> submittedAt,
+      Function<T, String> id) {
+
+    int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+    Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+    if (after != null && !after.isBlank()) {
+      filter.addCriteria(afterCursor(after, direction));
+    }
+
+    // Fetch one extra document to know whether another page exists
+    filter.with(Sort.by(direction, "submittedAt", "id")).limit(pageSize + 1);
+    List<T> results = mongoTemplate.find(filter, type);
+
+    String nextCursor = null;
+    if (results.size() > pageSize) {
+      results = results.subList(0, pageSize);
+      T last = results.get(pageSize - 1);
+      nextCursor = encodeCursor(submittedAt.apply(last), id.apply(last));
+    }
+
+    return new PageResponse<>(results, nextCursor, pageSize);
+  }
+
+  private Criteria afterCursor(String cursor, Sort.Direction direction) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    int separator = decoded.indexOf(':');
+    if (separator < 0) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    Instant lastSubmittedAt;
+    ObjectId lastId;
+    try {
+      String millis = decoded.substring(0, separator);
+      lastSubmittedAt = NULL_SUBMITTED_AT.equals(millis) ? null : Instant.ofEpochMilli(Long.parseLong(millis));
+      lastId = new ObjectId(decoded.substring(separator + 1));
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    boolean ascending = direction == Sort.Direction.ASC;
+    if (lastSubmittedAt == null) {
+      Criteria sameNull = Criteria.where("submittedAt").is(null).and("id");
+      if (!ascending) {
+        // Undated documents come last, so only they remain
+        return sameNull.lt(lastId);
+      }
+      return new Criteria().orOperator(
+          sameNull.gt(lastId),
+          Criteria.where("submittedAt").ne(null)
+      );
+    }
+
+    if (ascending) {
+      return new Criteria().orOperator(
+          Criteria.where("submittedAt").gt(lastSubmittedAt),
+          Criteria.where("submittedAt").is(lastSubmittedAt).and("id").gt(lastId)
+      );
+    }
+    // $lt never matches null, so the undated documents that follow are added explicitly
+    return new Criteria().orOperator(
+        Criteria.where("submittedAt").lt(lastSubmittedAt),
+        Criteria.where("submittedAt").is(lastSubmittedAt).and("id").lt(lastId),
+        Criteria.where("submittedAt").is(null)
+    );
+  }
+
+  private String encodeCursor(Instant submittedAt, String id) {
+    String millis = submittedAt != null ? String.valueOf(submittedAt.toEpochMilli()) : NULL_SUBMITTED_AT;
+    String raw = millis + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
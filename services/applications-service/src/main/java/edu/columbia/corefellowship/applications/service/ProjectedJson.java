@@ -0,0 +1,43 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.columbia.corefellowship.applications.dto.PageResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders documents read with a FieldProjection without their null fields.
+ *
+ * A projected document is still mapped into the full model class, so every field that was
+ * not projected is null and would be serialized as "field": null, giving back most of what
+ * the projection saved. The trees are built with the application's ObjectMapper settings,
+ * so dates and ids look the same as in unprojected responses.
+ */
+@Component
+public class ProjectedJson {
+
+  private final ObjectMapper mapper;
+
+  public ProjectedJson(ObjectMapper objectMapper) {
+    this.mapper = objectMapper.copy().setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+  }
+
+  public List<JsonNode> list(List<?> documents) {
+    List<JsonNode> nodes = new ArrayList<>(documents.size());
+    for (Object document : documents) {
+      nodes.add(mapper.valueToTree(document));
+    }
+    return nodes;
+  }
+
+  /**
+   * The page with its items compacted; nextCursor stays in the response even when null.
+   */
+  public PageResponse<JsonNode> page(PageResponse<?> page) {
+    return new PageResponse<>(list(page.getItems()), page.getNextCursor(), page.getLimit());
+  }
+}
@@ -0,0 +1,299 @@
+package edu.columbia.corefellowship.applications.service;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-process materialized per-term, per-status counters for the admin dashboard.
+ *
+ * Counters are seeded from a Mongo $group pipeline on startup and then kept current by
+ * the controllers on create, status change and delete, so reading them is O(1) in the
+ * number of documents. A periodic reconcile re-runs the pipeline to correct any drift
+ * (e.g. writes handled by another instance).
+ *
+ * Every write that moves a counter runs through write(kind, ...), which holds that kind's
+ * gate for the Mongo write and its counter changes together. A reconcile holds the gate
+ * exclusively while its pipeline runs and its result is swapped in, so each write of this
+ * instance is either fully in the pipeline's result or applied to it afterwards: never
+ * lost and never counted twice. The price is that writes to that collection wait for
+ * the pipeline; reads of the counters never do.
+ */
+@Service
+public class StatusCounterService {
+
+  private static final Logger log = LoggerFactory.getLogger(StatusCounterService.class);
+
+  public enum Kind {
+    STUDENT_APPLICATIONS("student_applications"),
+    STARTUPS("startups");
+
+    private final String collection;
+
+    Kind(String collection) {
+      this.collection = collection;
+    }
+
+    public String getCollection() {
+      return collection;
+    }
+  }
+
+  // Map keys for documents that have no term / status yet
+  static final String UNASSIGNED_TERM = "unassigned";
+  static final String UNKNOWN_STATUS = "unknown";
+
+  private final MongoTemplate mongoTemplate;
+  private final Duration refreshMinInterval;
+  private final Map<Kind, Map<String, Map<String, LongAdder>>> counters = new ConcurrentHashMap<>();
+  // Per kind: shared by counted writes, exclusive while a reconcile of that kind runs
+  private final Map<Kind, ReadWriteLock> gates = new EnumMap<>(Kind.class);
+  // One reconcile at a time; a lock, not synchronized, as it is held across the aggregation
+  private final Lock reconcileLock = new ReentrantLock();
+  private volatile boolean seeded;
+  private volatile Instant lastReconciled = Instant.MIN;
+
+  public StatusCounterService(
+      MongoTemplate mongoTemplate,
+      @Value("${stats.refresh-min-interval-ms:30000}") long refreshMinIntervalMs) {
+    this.mongoTemplate = mongoTemplate;
+    this.refreshMinInterval = Duration.ofMillis(refreshMinIntervalMs);
+    for (Kind kind : Kind.values()) {
+      counters.put(kind, new ConcurrentHashMap<>());
+      gates.put(kind, new ReentrantReadWriteLock());
+    }
+  }
+
+  /**
+   * Seed the counters once the application is up. Mongo being unreachable at that point
+   * must not abort startup, so a failure is logged and retried by retrySeed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void seed() {
+    try {
+      reconcile();
+    } catch (RuntimeException e) {
+      log.error("Seeding the status counters failed, retrying", e);
+    }
+  }
+
+  /**
+   * Retries the seed every stats.seed-retry-ms until one succeeds, instead of serving
+   * empty counters until the first regular reconcile.
+   */
+  @Scheduled(
+      initialDelayString = "${stats.seed-retry-ms:10000}",
+      fixedDelayString = "${stats.seed-retry-ms:10000}")
+  public void retrySeed() {
+    if (!seeded) {
+      seed();
+    }
+  }
+
+  /**
+   * Recompute every counter from Mongo with a $group on (term, status).
+   */
+  @Scheduled(
+      initialDelayString = "${stats.reconcile-interval-ms:300000}",
+      fixedDelayString = "${stats.reconcile-interval-ms:300000}")
+  public void reconcile() {
+    reconcileLock.lock();
+    try {
+      reconcileLocked();
+    } finally {
+      reconcileLock.unlock();
+    }
+  }
+
+  /**
+   * Reconcile on request, unless one finished less than stats.refresh-min-interval-ms ago
+   * or one is running right now; either way the counters are that fresh already.
+   *
+   * @return whether this call reconciled
+   */
+  public boolean refresh() {
+    if (isRecent() || !reconcileLock.tryLock()) {
+      return false;
+    }
+    try {
+      // A reconcile may have finished while this one waited for the check above
+      if (isRecent()) {
+        return false;
+      }
+      reconcileLocked();
+      return true;
+    } finally {
+      reconcileLock.unlock();
+    }
+  }
+
+  private boolean isRecent() {
+    return Instant.now().isBefore(lastReconciled.plus(refreshMinInterval));
+  }
+
+  private void reconcileLocked() {
+    for (Kind kind : Kind.values()) {
+      Lock gate = gates.get(kind).writeLock();
+      gate.lock();
+      try {
+        counters.put(kind, aggregate(kind));
+      } finally {
+        gate.unlock();
+      }
+    }
+    seeded = true;
+    lastReconciled = Instant.now();
+  }
+
+  /**
+   * Run a write to documents of one kind together with the counter changes it makes.
+   *
+   * The changes can only be recorded through the Counts passed in, and only count while
+   * the write runs. Record them after the Mongo write succeeded, for what it matched.
+   */
+  public <T> T write(Kind kind, Function<Counts, T> write) {
+    Lock gate = gates.get(kind).readLock();
+    gate.lock();
+    Counts counts = new Counts(kind);
+    try {
+      return write.apply(counts);
+    } finally {
+      counts.closed = true;
+      gate.unlock();
+    }
+  }
+
+  /**
+   * Snapshot of the counters for one collection.
+   *
+   * @param kind Collection to read
+   * @param term Restrict to a single term, or null for all terms
+   * @return total, per-status totals and the per-term breakdown
+   */
+  public Map<String, Object> snapshot(Kind kind, String term) {
+    Map<String, Map<String, Long>> byTerm = new TreeMap<>();
+    Map<String, Long> byStatus = new TreeMap<>();
+    long total = 0;
+
+    for (Map.Entry<String, Map<String, LongAdder>> termEntry : counters.get(kind).entrySet()) {
+      if (term != null && !term.equals(termEntry.getKey())) {
+        continue;
+      }
+      Map<String, Long> statuses = new TreeMap<>();
+      for (Map.Entry<String, LongAdder> statusEntry : termEntry.getValue().entrySet()) {
+        long count = statusEntry.getValue().sum();
+        if (count <= 0) {
+          continue;
+        }
+        statuses.put(statusEntry.getKey(), count);
+        byStatus.merge(statusEntry.getKey(), count, Long::sum);
+        total += count;
+      }
+      if (!statuses.isEmpty()) {
+        byTerm.put(termEntry.getKey(), statuses);
+      }
+    }
+
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("total", total);
+    result.put("byStatus", byStatus);
+    result.put("byTerm", byTerm);
+    return result;
+  }
+
+  private Map<String, Map<String, LongAdder>> aggregate(Kind kind) {
+    Aggregation aggregation = Aggregation.newAggregation(
+        Aggregation.group("term", "status").count().as("count")
+    );
+    AggregationResults<Document> results =
+        mongoTemplate.aggregate(aggregation, kind.getCollection(), Document.class);
+
+    Map<String, Map<String, LongAdder>> fresh = new ConcurrentHashMap<>();
+    for (Document row : results) {
+      Document id = row.get("_id", Document.class);
+      String term = id != null ? id.getString("term") : null;
+      String status = id != null ? id.getString("status") : null;
+      Number count = row.get("count", Number.class);
+
+      adder(fresh, term, status).add(count != null ? count.longValue() : 0L);
+    }
+    return fresh;
+  }
+
+  private void add(Kind kind, String term, String status, long delta) {
+    adder(counters.get(kind), term, status).add(delta);
+  }
+
+  private static LongAdder adder(Map<String, Map<String, LongAdder>> counters, String term, String status) {
+    return counters
+        .computeIfAbsent(normalizeTerm(term), key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(normalizeStatus(status), key -> new LongAdder());
+  }
+
+  private static String normalizeTerm(String term) {
+    return term == null || term.isBlank() ? UNASSIGNED_TERM : term;
+  }
+
+  private static String normalizeStatus(String status) {
+    return status == null || status.isBlank() ? UNKNOWN_STATUS : status;
+  }
+
+  /**
+   * Counter changes of one write(kind, ...) call.
+   */
+  public final class Counts {
+
+    private final Kind kind;
+    private volatile boolean closed;
+
+    private Counts(Kind kind) {
+      this.kind = kind;
+    }
+
+    public void created(String term, String status) {
+      add(term, status, 1);
+    }
+
+    public void deleted(String term, String status) {
+      add(term, status, -1);
+    }
+
+    public void statusChanged(String term, String oldStatus, String newStatus) {
+      if (normalizeStatus(oldStatus).equals(normalizeStatus(newStatus))) {
+        return;
+      }
+      add(term, oldStatus, -1);
+      add(term, newStatus, 1);
+    }
+
+    private void add(String term, String status, long delta) {
+      if (closed) {
+        // Outside the gate a reconcile could already have counted the write
+        throw new IllegalStateException("Counts used after its write(" + kind + ", ...) returned");
+      }
+      StatusCounterService.this.add(kind, term, status, delta);
+    }
+  }
+}
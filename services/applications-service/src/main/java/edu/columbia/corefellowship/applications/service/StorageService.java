@@ -1,36 +1,64 @@
 package edu.columbia.corefellowship.applications.service;
 
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import edu.columbia.corefellowship.applications.config.GcsProperties;
+import edu.columbia.corefellowship.applications.config.StorageProperties;
+import edu.columbia.corefellowship.applications.storage.BlobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class StorageService {
 
-  private final Storage storage;
-  private final GcsProperties gcsProperties;
-
-  public StorageService(Storage storage, GcsProperties gcsProperties) {
-    this.storage = storage;
-    this.gcsProperties = gcsProperties;
+  private static final Duration SIGNED_URL_TTL = Duration.ofMinutes(15);
+  private static final Duration SIGNED_URL_REFRESH_MARGIN = Duration.ofMinutes(5);
+
+  private final BlobStore blobStore;
+  private final StorageProperties storageProperties;
+  private final Map<String, SignedUrl> signedUrlCache = new ConcurrentHashMap<>();
+  private final Timer uploadTimer;
+  private final Timer signTimer;
+  private final Timer signBatchTimer;
+
+  public StorageService(BlobStore blobStore, StorageProperties storageProperties, MeterRegistry meterRegistry) {
+    this.blobStore = blobStore;
+    this.storageProperties = storageProperties;
+    this.uploadTimer = Timer.builder("storage.upload")
+        .description("Streaming a file into the storage backend")
+        .tag("backend", storageProperties.getBackend())
+        .register(meterRegistry);
+    // Cache hits are not timed; this is the cost of actually signing
+    this.signTimer = Timer.builder("storage.sign")
+        .description("Signing a download URL")
+        .tag("backend", storageProperties.getBackend())
+        .register(meterRegistry);
+    this.signBatchTimer = Timer.builder("storage.sign.batch")
+        .description("Signing the uncached download URLs of one batch")
+        .tag("backend", storageProperties.getBackend())
+        .register(meterRegistry);
   }
 
   /**
-   * Upload a file to Google Cloud Storage.
+   * Upload a file to the configured storage backend.
+   * The file is streamed to the backend, never read into memory whole.
    *
    * @param file     The file to upload
    * @param userId   The user ID (for organizing files)
    * @param fileName The desired file name
-   * @return The GCS blob name (path in the bucket)
+   * @return The blob name (path in the bucket)
    */
   public String uploadFile(MultipartFile file, String userId, String fileName) {
     // Validate file
@@ -39,18 +67,16 @@ public class StorageService {
     // Create blob path: resumes/{userId}/{fileName}
     String blobName = String.format("resumes/%s/%s", userId, fileName);
 
-    try {
-      BlobId blobId = BlobId.of(gcsProperties.getBucketName(), blobName);
-      BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-          .setContentType(file.getContentType())
-          .build();
-
-      storage.create(blobInfo, file.getBytes());
+    Timer.Sample sample = Timer.start();
+    try (InputStream in = file.getInputStream()) {
+      blobStore.write(blobName, file.getContentType(), in);
       return blobName;
 
     } catch (IOException e) {
       throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
           "Failed to upload file", e);
+    } finally {
+      sample.stop(uploadTimer);
     }
   }
 
@@ -58,28 +84,84 @@ public class StorageService {
    * Generate a signed URL for downloading a file.
    * Valid for 15 minutes.
    *
-   * @param blobName The GCS blob name
+   * @param blobName The blob name
    * @return Signed URL for downloading
    */
   public String getSignedUrl(String blobName) {
-    BlobId blobId = BlobId.of(gcsProperties.getBucketName(), blobName);
-    Blob blob = storage.get(blobId);
+    return sign(blobName).getUrl();
+  }
+
+  /**
+   * Sign a download URL for a blob.
+   *
+   * Signed URLs are cached per blob and reused until SIGNED_URL_REFRESH_MARGIN before
+   * they expire, so callers always get at least 5 of the 15 minutes of validity.
+   */
+  public SignedUrl sign(String blobName) {
+    Instant now = Instant.now();
+    SignedUrl cached = signedUrlCache.get(blobName);
+    if (cached != null && now.isBefore(cached.getExpiresAt().minus(SIGNED_URL_REFRESH_MARGIN))) {
+      return cached;
+    }
 
-    if (blob == null) {
-      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+    Instant expiresAt = now.plus(SIGNED_URL_TTL);
+    String url = signTimer.record(() -> blobStore.signedDownloadUrl(blobName, SIGNED_URL_TTL));
+    SignedUrl signed = new SignedUrl(url, expiresAt);
+    cache(blobName, signed, now);
+    return signed;
+  }
+
+  /**
+   * Sign download URLs for several blobs at once; blobs already in the cache are not
+   * signed again.
+   *
+   * The rest are signed in one BlobStore call with one expiry, so the backend sets up its
+   * signing once (see BlobStore.signedDownloadUrls), and they go into the cache with at
+   * most one sweep of expired entries for the whole batch.
+   *
+   * @return signed URL per blob name, in the iteration order of blobNames
+   */
+  public Map<String, SignedUrl> sign(Collection<String> blobNames) {
+    Instant now = Instant.now();
+    Map<String, SignedUrl> signed = new LinkedHashMap<>();
+    Set<String> missing = new LinkedHashSet<>();
+    for (String blobName : blobNames) {
+      SignedUrl cached = signedUrlCache.get(blobName);
+      if (cached != null && now.isBefore(cached.getExpiresAt().minus(SIGNED_URL_REFRESH_MARGIN))) {
+        signed.put(blobName, cached);
+      } else {
+        // Placeholder keeps the caller's order; replaced below
+        signed.put(blobName, null);
+        missing.add(blobName);
+      }
+    }
+    if (missing.isEmpty()) {
+      return signed;
     }
 
-    return blob.signUrl(15, TimeUnit.MINUTES).toString();
+    Instant expiresAt = now.plus(SIGNED_URL_TTL);
+    Map<String, String> urls = signBatchTimer.record(() -> blobStore.signedDownloadUrls(missing, SIGNED_URL_TTL));
+    Map<String, SignedUrl> fresh = new LinkedHashMap<>();
+    urls.forEach((blobName, url) -> fresh.put(blobName, new SignedUrl(url, expiresAt)));
+    signed.putAll(fresh);
+    cacheAll(fresh, now);
+    return signed;
   }
 
   /**
-   * Delete a file from GCS.
+   * Delete a file from the storage backend.
    *
-   * @param blobName The GCS blob name
+   * @param blobName The blob name
    */
   public void deleteFile(String blobName) {
-    BlobId blobId = BlobId.of(gcsProperties.getBucketName(), blobName);
-    boolean deleted = storage.delete(blobId);
+    boolean deleted;
+    try {
+      deleted = blobStore.delete(blobName);
+    } catch (IOException e) {
+      throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+          "Failed to delete file", e);
+    }
+    signedUrlCache.remove(blobName);
 
     if (!deleted) {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -87,6 +169,23 @@ public class StorageService {
     }
   }
 
+  private void cache(String blobName, SignedUrl signed, Instant now) {
+    cacheAll(Map.of(blobName, signed), now);
+  }
+
+  private void cacheAll(Map<String, SignedUrl> signed, Instant now) {
+    int maxEntries = storageProperties.getSignedUrlCacheMaxEntries();
+    if (signedUrlCache.size() + signed.size() > maxEntries) {
+      signedUrlCache.values().removeIf(entry -> !now.isBefore(entry.getExpiresAt()));
+    }
+    signed.forEach((blobName, url) -> {
+      // Still full of live URLs - hand the rest out uncached
+      if (signedUrlCache.size() < maxEntries || signedUrlCache.containsKey(blobName)) {
+        signedUrlCache.put(blobName, url);
+      }
+    });
+  }
+
   /**
    * Validate uploaded file.
    */
@@ -116,4 +215,26 @@ public class StorageService {
           "File must have .pdf extension");
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * A signed download URL and the instant it stops working.
+   */
+  public static final class SignedUrl {
+
+    private final String url;
+    private final Instant expiresAt;
+
+    public SignedUrl(String url, Instant expiresAt) {
+      this.url = url;
+      this.expiresAt = expiresAt;
+    }
+
+    public String getUrl() {
+      return url;
+    }
+
+    public Instant getExpiresAt() {
+      return expiresAt;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package edu.columbia.corefellowship.applications.service;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Function;
+
+/**
+ * Single-round-trip partial updates with optimistic concurrency.
+ *
+ * Callers build a targeted update (including the version bump) and this runs it as one
+ * findAndModify. When the caller passes the version it last read, the update only matches
+ * that version, so a concurrent edit in between is reported as 409 instead of being lost.
+ *
+ * Status changes also need the status they replaced, for the counters. modifyStatus reads
+ * it first and then only updates while the document still has that status, so the update
+ * returns the new document and the old status is known from its own filter.
+ */
+@Service
+public class VersionedUpdates {
+
+  public static final String VERSION = "version";
+  public static final String STATUS = "status";
+
+  // Status reads and conditional updates before an unversioned status change gives up
+  private static final int STATUS_ATTEMPTS = 3;
+
+  private final MongoTemplate mongoTemplate;
+
+  public VersionedUpdates(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Apply an update to the single document matching criteria.
+   *
+   * @param criteria        Identifies the document (e.g. by id)
+   * @param expectedVersion Version the caller last read, or null to update unconditionally
+   * @param update          Targeted update; must bump the version field itself
+   * @param returnNew       Return the document after (true) or before (false) the update
+   * @param notFoundMessage Reason for the 404 when nothing matches criteria
+   * @return the modified document
+   */
+  public <T> T modify(Criteria criteria, Long expectedVersion, UpdateDefinition update,
+                      boolean returnNew, Class<T> type, String notFoundMessage) {
+    Query query = Query.query(criteria);
+    if (expectedVersion != null) {
+      query.addCriteria(Criteria.where(VERSION).is(expectedVersion));
+    }
+
+    T result = mongoTemplate.findAndModify(query, update,
+        FindAndModifyOptions.options().returnNew(returnNew), type);
+    if (result != null) {
+      return result;
+    }
+
+    // Only pay for the second query on the failure path, to tell the two cases apart
+    if (expectedVersion != null && mongoTemplate.exists(Query.query(criteria), type)) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT,
+          "Document was modified by another request; reload and retry");
+    }
+    throw new ResponseStatusException(HttpStatus.NOT_FOUND, notFoundMessage);
+  }
+
+  /**
+   * Apply an update that may change the status field and return the document after it,
+   * together with the status it had before.
+   *
+   * The update only matches while the status is still the one just read. Another writer
+   * changing it in between fails the match: with an expectedVersion that is a 409 as in
+   * modify, without one the status is read again and the update retried.
+   *
+   * @param status Reads the status of a document of type
+   */
+  public <T> StatusChange<T> modifyStatus(Criteria criteria, Long expectedVersion, UpdateDefinition update,
+                                          Class<T> type, Function<T, String> status, String notFoundMessage) {
+    for (int attempt = 1; ; attempt++) {
+      Query read = Query.query(criteria);
+      read.fields().include(STATUS);
+      T current = mongoTemplate.findOne(read, type);
+      if (current == null) {
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, notFoundMessage);
+      }
+      String previousStatus = status.apply(current);
+
+      // is(null) also matches a document without a status
+      Query query = Query.query(criteria).addCriteria(Criteria.where(STATUS).is(previousStatus));
+      if (expectedVersion != null) {
+        query.addCriteria(Criteria.where(VERSION).is(expectedVersion));
+      }
+      T result = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), type);
+      if (result != null) {
+        return new StatusChange<>(previousStatus, result);
+      }
+
+      if (expectedVersion != null || attempt == STATUS_ATTEMPTS) {
+        if (!mongoTemplate.exists(Query.query(criteria), type)) {
+          throw new ResponseStatusException(HttpStatus.NOT_FOUND, notFoundMessage);
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+            "Document was modified by another request; reload and retry");
+      }
+    }
+  }
+
+  /**
+   * A document after a status update and the status the update replaced.
+   */
+  public static final class StatusChange<T> {
+
+    private final String previousStatus;
+    private final T document;
+
+    StatusChange(String previousStatus, T document) {
+      this.previousStatus = previousStatus;
+      this.document = document;
+    }
+
+    public String getPreviousStatus() {
+      return previousStatus;
+    }
+
+    public T getDocument() {
+      return document;
+    }
+  }
+}
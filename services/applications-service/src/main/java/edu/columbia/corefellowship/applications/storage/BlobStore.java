@@ -0,0 +1,57 @@
+package edu.columbia.corefellowship.applications.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Storage backend for uploaded files (resumes).
+ *
+ * Selected with storage.backend: "gcs" (default) writes to Google Cloud Storage,
+ * "local" writes to a directory on disk so uploads and downloads can be exercised
+ * without GCS credentials.
+ */
+public interface BlobStore {
+
+  /**
+   * Write a blob, replacing any existing blob with the same name.
+   * Implementations stream the content and must not buffer it whole in memory.
+   *
+   * @param blobName    Path of the blob inside the bucket/root
+   * @param contentType MIME type of the content
+   * @param content     Content to write; the caller closes it
+   */
+  void write(String blobName, String contentType, InputStream content) throws IOException;
+
+  /**
+   * Create a URL the browser can download the blob from directly.
+   *
+   * @param blobName Path of the blob
+   * @param ttl      How long the URL stays valid
+   */
+  String signedDownloadUrl(String blobName, Duration ttl);
+
+  /**
+   * Create download URLs for several blobs, all valid for the same ttl. Backends override
+   * this to set up signing once for the whole batch instead of once per blob.
+   *
+   * @return URL per blob name, in the iteration order of blobNames
+   */
+  default Map<String, String> signedDownloadUrls(Collection<String> blobNames, Duration ttl) {
+    Map<String, String> urls = new LinkedHashMap<>();
+    for (String blobName : blobNames) {
+      urls.put(blobName, signedDownloadUrl(blobName, ttl));
+    }
+    return urls;
+  }
+
+  /**
+   * Delete a blob.
+   *
+   * @return false if the blob did not exist
+   */
+  boolean delete(String blobName) throws IOException;
+}
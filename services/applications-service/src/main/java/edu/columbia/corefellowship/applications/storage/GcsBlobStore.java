@@ -0,0 +1,103 @@
+package edu.columbia.corefellowship.applications.storage;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import edu.columbia.corefellowship.applications.config.GcsProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Cloud Storage backend.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStore implements BlobStore {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final Storage storage;
+  private final GcsProperties gcsProperties;
+
+  public GcsBlobStore(Storage storage, GcsProperties gcsProperties) {
+    this.storage = storage;
+    this.gcsProperties = gcsProperties;
+  }
+
+  /**
+   * Streams the content through a resumable upload in fixed-size chunks, so only
+   * one chunk is held in memory regardless of the file size.
+   */
+  @Override
+  public void write(String blobName, String contentType, InputStream content) throws IOException {
+    BlobId blobId = BlobId.of(gcsProperties.getBucketName(), blobName);
+    BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+        .setContentType(contentType)
+        .build();
+
+    try (WriteChannel writer = storage.writer(blobInfo)) {
+      writer.setChunkSize(gcsProperties.getUploadChunkSize());
+      byte[] buffer = new byte[COPY_BUFFER_SIZE];
+      int read;
+      while ((read = content.read(buffer)) != -1) {
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+        while (chunk.hasRemaining()) {
+          writer.write(chunk);
+        }
+      }
+    }
+  }
+
+  /**
+   * Signs the URL locally from the service account key - there is no metadata
+   * round-trip to GCS, so a missing object only shows up as a 404 when the URL is used.
+   */
+  @Override
+  public String signedDownloadUrl(String blobName, Duration ttl) {
+    return signedDownloadUrls(List.of(blobName), ttl).get(blobName);
+  }
+
+  /**
+   * The emulator check and the expiry are resolved once for the batch. Each real URL is
+   * still its own RSA signature with the service account key; GCS has no batch signing.
+   */
+  @Override
+  public Map<String, String> signedDownloadUrls(Collection<String> blobNames, Duration ttl) {
+    Map<String, String> urls = new LinkedHashMap<>();
+    String emulatorHost = gcsProperties.getEmulatorHost();
+    if (emulatorHost != null && !emulatorHost.isBlank()) {
+      // The emulator has no signing key; it serves objects directly without auth
+      for (String blobName : blobNames) {
+        urls.put(blobName, String.format("%s/storage/v1/b/%s/o/%s?alt=media",
+            emulatorHost, gcsProperties.getBucketName(),
+            URLEncoder.encode(blobName, StandardCharsets.UTF_8)));
+      }
+      return urls;
+    }
+
+    long minutes = ttl.toMinutes();
+    for (String blobName : blobNames) {
+      BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(gcsProperties.getBucketName(), blobName)).build();
+      urls.put(blobName, storage.signUrl(blobInfo, minutes, TimeUnit.MINUTES).toString());
+    }
+    return urls;
+  }
+
+  @Override
+  public boolean delete(String blobName) {
+    return storage.delete(BlobId.of(gcsProperties.getBucketName(), blobName));
+  }
+}
@@ -0,0 +1,165 @@
+package edu.columbia.corefellowship.applications.storage;
+
+import edu.columbia.corefellowship.applications.config.StorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filesystem backend for local development, benchmarks and load tests.
+ *
+ * Blobs are plain files under storage.local.root. Writes go through
+ * FileChannel.transferFrom into a temp file that is then moved into place, so readers
+ * never see a partial file. Downloads are served by LocalFileController from
+ * HMAC-signed URLs that mimic GCS signed URLs.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final Path root;
+  private final String publicBaseUrl;
+  private final byte[] signingKey;
+
+  public LocalBlobStore(StorageProperties storageProperties) throws IOException {
+    StorageProperties.Local local = storageProperties.getLocal();
+    this.root = Path.of(local.getRoot()).toAbsolutePath().normalize();
+    this.publicBaseUrl = local.getPublicBaseUrl();
+
+    String configuredKey = local.getSigningKey();
+    if (configuredKey != null && !configuredKey.isBlank()) {
+      this.signingKey = configuredKey.getBytes(StandardCharsets.UTF_8);
+    } else {
+      // No key configured - URLs only stay valid until restart, which is fine locally
+      this.signingKey = new byte[32];
+      new SecureRandom().nextBytes(this.signingKey);
+    }
+
+    Files.createDirectories(root);
+  }
+
+  @Override
+  public void write(String blobName, String contentType, InputStream content) throws IOException {
+    Path target = resolve(blobName);
+    Files.createDirectories(target.getParent());
+    Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+    try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      // A FileInputStream (multipart part spooled to disk) exposes its channel,
+      // which lets the kernel copy file-to-file without going through the heap
+      ReadableByteChannel in = content instanceof FileInputStream fileIn
+          ? fileIn.getChannel()
+          : Channels.newChannel(content);
+      long position = 0;
+      long transferred;
+      while ((transferred = out.transferFrom(in, position, Long.MAX_VALUE)) > 0) {
+        position += transferred;
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public String signedDownloadUrl(String blobName, Duration ttl) {
+    long expires = Instant.now().plus(ttl).getEpochSecond();
+    return url(blobName, expires, newMac());
+  }
+
+  /**
+   * One expiry and one initialized Mac for the whole batch.
+   */
+  @Override
+  public Map<String, String> signedDownloadUrls(Collection<String> blobNames, Duration ttl) {
+    long expires = Instant.now().plus(ttl).getEpochSecond();
+    Mac mac = newMac();
+    Map<String, String> urls = new LinkedHashMap<>();
+    for (String blobName : blobNames) {
+      urls.put(blobName, url(blobName, expires, mac));
+    }
+    return urls;
+  }
+
+  @Override
+  public boolean delete(String blobName) throws IOException {
+    return Files.deleteIfExists(resolve(blobName));
+  }
+
+  /**
+   * Check a signed download URL and return the file it points at.
+   *
+   * @return the file, or null if the signature is wrong or the URL has expired
+   */
+  public Path verify(String blobName, long expires, String signature) {
+    if (Instant.now().getEpochSecond() > expires) {
+      return null;
+    }
+    byte[] expected = signature(blobName, expires, newMac()).getBytes(StandardCharsets.US_ASCII);
+    byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+    if (!MessageDigest.isEqual(expected, actual)) {
+      return null;
+    }
+    return resolve(blobName);
+  }
+
+  private Path resolve(String blobName) {
+    Path path = root.resolve(blobName).normalize();
+    if (!path.startsWith(root) || path.equals(root)) {
+      throw new IllegalArgumentException("Invalid blob name: " + blobName);
+    }
+    return path;
+  }
+
+  private String url(String blobName, long expires, Mac mac) {
+    return String.format("%s/v1/files?blob=%s&expires=%d&signature=%s",
+        publicBaseUrl,
+        URLEncoder.encode(blobName, StandardCharsets.UTF_8),
+        expires,
+        signature(blobName, expires, mac));
+  }
+
+  private static String signature(String blobName, long expires, Mac mac) {
+    // doFinal resets the Mac, so it can sign the next blob of a batch right away
+    byte[] digest = mac.doFinal((blobName + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+
+  private Mac newMac() {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+      return mac;
+    } catch (GeneralSecurityException e) {
+      // HmacSHA256 is mandatory on every JRE
+      throw new IllegalStateException("HmacSHA256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package edu.columbia.corefellowship.applications;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import de.flapdoodle.embed.mongo.commands.MongodArguments;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import de.flapdoodle.reverse.transitions.Start;
+import org.bson.Document;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One mongod shared by every integration test in the JVM, started on first use; the binary
+ * is downloaded and cached the first time. Each test class picks its own database.
+ *
+ * Tests that need multi-document transactions use a second, single-member replica set,
+ * started the same way on first use.
+ */
+public final class EmbeddedMongo {
+
+  private static final String REPLICA_SET = "rs0";
+
+  private static TransitionWalker.ReachedState<RunningMongodProcess> running;
+  private static TransitionWalker.ReachedState<RunningMongodProcess> replicaSet;
+
+  private EmbeddedMongo() {
+  }
+
+  /**
+   * Base connection URI, without a database.
+   */
+  public static synchronized String uri() {
+    if (running == null) {
+      running = Mongod.instance().start(Version.Main.V7_0);
+      Runtime.getRuntime().addShutdownHook(new Thread(running::close));
+    }
+    return address(running);
+  }
+
+  /**
+   * Connection URI of the single-member replica set, with the database and a direct
+   * connection to its only member.
+   */
+  public static synchronized String replicaSetUri(String database) {
+    if (replicaSet == null) {
+      replicaSet = Mongod.instance()
+          .withMongodArguments(Start.to(MongodArguments.class).initializedWith(
+              MongodArguments.defaults().withArgs(Map.of("--replSet", REPLICA_SET))))
+          .start(Version.Main.V7_0);
+      Runtime.getRuntime().addShutdownHook(new Thread(replicaSet::close));
+      initiate(address(replicaSet));
+    }
+    return address(replicaSet) + "/" + database + "?directConnection=true";
+  }
+
+  /**
+   * Point a Spring Boot test at the embedded mongod.
+   */
+  public static void register(DynamicPropertyRegistry registry, String database) {
+    registerUri(registry, uri() + "/" + database);
+  }
+
+  /**
+   * Point a Spring Boot test at the embedded replica set, with transactions enabled.
+   */
+  public static void registerReplicaSet(DynamicPropertyRegistry registry, String database) {
+    registerUri(registry, replicaSetUri(database));
+    registry.add("mongo.transactions-enabled", () -> "true");
+  }
+
+  private static void registerUri(DynamicPropertyRegistry registry, String databaseUri) {
+    registry.add("spring.data.mongodb.uri", () -> databaseUri);
+    registry.add("mongo.explain-on-startup", () -> "false");
+    registry.add("management.server.port", () -> "0");
+  }
+
+  private static String address(TransitionWalker.ReachedState<RunningMongodProcess> mongod) {
+    ServerAddress address = mongod.current().getServerAddress();
+    return "mongodb://" + address.getHost() + ":" + address.getPort();
+  }
+
+  private static void initiate(String uri) {
+    try (MongoClient client = MongoClients.create(uri + "/?directConnection=true")) {
+      MongoDatabase admin = client.getDatabase("admin");
+      String host = uri.substring("mongodb://".length());
+      admin.runCommand(new Document("replSetInitiate", new Document("_id", REPLICA_SET)
+          .append("members", List.of(new Document("_id", 0).append("host", host)))));
+      // Writes and transactions need the member to have become primary
+      long deadline = System.nanoTime() + 30_000_000_000L;
+      while (!admin.runCommand(new Document("hello", 1)).getBoolean("isWritablePrimary", false)) {
+        if (System.nanoTime() > deadline) {
+          throw new IllegalStateException("Replica set " + REPLICA_SET + " did not elect a primary");
+        }
+        Thread.sleep(100);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
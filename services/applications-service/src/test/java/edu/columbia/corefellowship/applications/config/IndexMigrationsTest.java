@@ -0,0 +1,75 @@
+package edu.columbia.corefellowship.applications.config;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.model.Interview;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexMigrationsTest {
+
+  private MongoClient client;
+  private MongoDatabase database;
+
+  @BeforeEach
+  void connect() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    database = client.getDatabase("index-migrations-test");
+    database.drop();
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void makesTheOldInterviewIndexUniqueAndKeepsTheLatestDuplicate() {
+    MongoCollection<Document> interviews = database.getCollection("interviews");
+    interviews.createIndex(Indexes.ascending("applicationId"), new IndexOptions().name(Interview.APPLICATION_ID_INDEX));
+    ObjectId kept = new ObjectId();
+    interviews.insertMany(List.of(
+        new Document("_id", new ObjectId()).append("applicationId", "a1").append("updatedAt", new Date(1_000)),
+        new Document("_id", kept).append("applicationId", "a1").append("updatedAt", new Date(3_000)),
+        new Document("_id", new ObjectId()).append("applicationId", "a1").append("updatedAt", new Date(2_000)),
+        new Document("_id", new ObjectId()).append("applicationId", "a2").append("updatedAt", new Date(1_000))));
+
+    new IndexMigrations(database).run();
+
+    assertThat(interviews.find(eq("applicationId", "a1")).map(doc -> doc.get("_id")).into(new ArrayList<>()))
+        .containsExactly(kept);
+    assertThat(interviews.countDocuments(eq("applicationId", "a2"))).isEqualTo(1);
+    assertThat(database.getCollection(IndexMigrations.INTERVIEW_DUPLICATES).countDocuments()).isEqualTo(2);
+    assertThat(interviews.listIndexes().into(new ArrayList<>()))
+        .filteredOn(index -> Interview.APPLICATION_ID_INDEX.equals(index.getString("name")))
+        .singleElement()
+        .satisfies(index -> assertThat(index.getBoolean("unique")).isTrue());
+
+    // What auto-index-creation does next must find the index already in place
+    interviews.createIndex(Indexes.ascending("applicationId"),
+        new IndexOptions().name(Interview.APPLICATION_ID_INDEX).unique(true));
+    new IndexMigrations(database).run();
+  }
+
+  @Test
+  void doesNothingOnAFreshDatabase() {
+    new IndexMigrations(database).run();
+
+    assertThat(database.listCollectionNames().into(new ArrayList<>())).isEmpty();
+  }
+}
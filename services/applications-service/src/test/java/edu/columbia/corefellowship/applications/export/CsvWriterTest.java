@@ -0,0 +1,153 @@
+package edu.columbia.corefellowship.applications.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-rolled formatting must match what the JDK would have written: instants against
+ * Instant.toString(), integers against Integer.toString() and text against RFC 4180 quoting.
+ */
+class CsvWriterTest {
+
+  @Test
+  void instantsMatchInstantToString() throws IOException {
+    List<Instant> instants = List.of(
+        Instant.EPOCH,
+        Instant.ofEpochSecond(-1),
+        Instant.ofEpochSecond(-1, 500_000_000),
+        // Leap days, including the 400-year rule
+        Instant.parse("2024-02-29T23:59:59Z"),
+        Instant.parse("2000-02-29T00:00:00Z"),
+        Instant.parse("1972-02-29T12:00:00Z"),
+        Instant.parse("1900-03-01T00:00:00Z"),
+        // Before 1970 and at the edges of four-digit years
+        Instant.parse("1969-12-31T23:59:59Z"),
+        Instant.parse("1600-02-29T06:30:00Z"),
+        Instant.parse("0001-01-01T00:00:00Z"),
+        Instant.parse("0000-01-01T00:00:00Z"),
+        Instant.parse("9999-12-31T23:59:59.999999999Z"),
+        // Outside them, where ISO-8601 adds a sign
+        Instant.parse("-0001-12-31T23:59:59Z"),
+        Instant.parse("+10000-01-01T00:00:00Z"),
+        Instant.MIN,
+        Instant.MAX,
+        // 0, 3, 6 and 9 fraction digits, with trailing zeros inside a group
+        Instant.ofEpochSecond(1_700_000_000, 0),
+        Instant.ofEpochSecond(1_700_000_000, 100_000_000),
+        Instant.ofEpochSecond(1_700_000_000, 120_000),
+        Instant.ofEpochSecond(1_700_000_000, 1),
+        Instant.ofEpochSecond(1_700_000_000, 999_999_999),
+        Instant.ofEpochSecond(-86_401, 10));
+
+    for (Instant instant : instants) {
+      assertThat(csv(writer -> writer.instant(instant))).as("%s", instant).isEqualTo(instant + "\n");
+    }
+  }
+
+  @Test
+  void randomInstantsMatchInstantToString() throws IOException {
+    Random random = new Random(42);
+    long min = Instant.parse("-1000-01-01T00:00:00Z").getEpochSecond();
+    long max = Instant.parse("+12000-01-01T00:00:00Z").getEpochSecond();
+    for (int i = 0; i < 10_000; i++) {
+      long seconds = min + (long) (random.nextDouble() * (max - min));
+      int nanos = switch (i % 4) {
+        case 0 -> 0;
+        case 1 -> random.nextInt(1000) * 1_000_000;
+        case 2 -> random.nextInt(1_000_000) * 1000;
+        default -> random.nextInt(1_000_000_000);
+      };
+      Instant instant = Instant.ofEpochSecond(seconds, nanos);
+      assertThat(csv(writer -> writer.instant(instant))).as("%s", instant).isEqualTo(instant + "\n");
+    }
+  }
+
+  @Test
+  void integersMatchIntegerToString() throws IOException {
+    for (int value : new int[] {0, 7, -7, 10, -10, 999_999, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+      assertThat(csv(writer -> writer.number(value))).isEqualTo(value + "\n");
+    }
+  }
+
+  @Test
+  void nullsAreEmptyCells() throws IOException {
+    String row = csv(writer -> {
+      writer.text(null);
+      writer.number(null);
+      writer.bool(null);
+      writer.instant(null);
+      writer.joined(null, ';');
+      writer.bool(true);
+    });
+
+    assertThat(row).isEqualTo(",,,,,true\n");
+  }
+
+  @Test
+  void cellsAreQuotedOnlyWhenNeeded() throws IOException {
+    String row = csv(writer -> {
+      writer.text("plain");
+      writer.text("");
+      writer.text("a,b");
+      writer.text("say \"hi\"");
+      writer.text("\"");
+      writer.text("line\nbreak");
+      writer.text("carriage\rreturn");
+      writer.text("crlf\r\n");
+    });
+
+    assertThat(row).isEqualTo("plain,,\"a,b\",\"say \"\"hi\"\"\",\"\"\"\",\"line\nbreak\","
+        + "\"carriage\rreturn\",\"crlf\r\n\"\n");
+  }
+
+  @Test
+  void joinedValuesAreEscapedAsOneCell() throws IOException {
+    String row = csv(writer -> {
+      writer.joined(List.of("a", "b"), ';');
+      writer.joined(Arrays.asList("x,y", null, "\"q\""), ';');
+      writer.joined(List.of("a", "b"), ',');
+    });
+
+    assertThat(row).isEqualTo("a;b,\"x,y;null;\"\"q\"\"\",\"a,b\"\n");
+  }
+
+  @Test
+  void cellsLargerThanTheBufferAreWrittenWhole() throws IOException {
+    String large = "x".repeat(100) + "\"" + ",".repeat(50);
+    String expected = "\"" + "x".repeat(100) + "\"\"" + ",".repeat(50) + "\"";
+    StringWriter out = new StringWriter();
+    CsvWriter writer = new CsvWriter(out, 16);
+
+    for (int row = 0; row < 3; row++) {
+      writer.number(row);
+      writer.text(large);
+      writer.instant(Instant.EPOCH);
+      writer.endRow();
+    }
+    writer.flush();
+
+    String line = expected + ",1970-01-01T00:00:00Z\n";
+    assertThat(out.toString()).isEqualTo("0," + line + "1," + line + "2," + line);
+  }
+
+  private interface Row {
+    void write(CsvWriter writer) throws IOException;
+  }
+
+  private static String csv(Row row) throws IOException {
+    StringWriter out = new StringWriter();
+    CsvWriter writer = new CsvWriter(out);
+    row.write(writer);
+    writer.endRow();
+    writer.flush();
+    return out.toString();
+  }
+}
@@ -0,0 +1,98 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.model.Interview;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Parallel POST /{id}/interview for one application: exactly one create may go through and
+ * every other one must become a 409. Subclasses pick the Mongo deployment.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "storage.backend=local",
+    "storage.local.root=${java.io.tmpdir}/applications-test-storage"
+})
+abstract class AbstractInterviewCreatorConcurrencyTest {
+
+  private static final int CREATES = 16;
+
+  @Autowired
+  private TestRestTemplate rest;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Test
+  void parallelCreatesStoreOneInterviewAndConflictTheRest() throws Exception {
+    StudentApplication application = new StudentApplication();
+    application.setFullName("Ada Lovelace");
+    application.setEmail("ada@columbia.edu");
+    application.setTerm("Fall 2025");
+    application.setStatus("under_review");
+    application.setSubmittedAt(Instant.now());
+    String applicationId = mongoTemplate.insert(application).getId();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.set("X-User-Id", "admin-1");
+    headers.set("X-User-Role", "ROLE_ADMIN");
+    headers.set("X-User-Email", "admin@columbia.edu");
+    HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of(
+        "interviewDate", "2025-04-01T15:00:00Z",
+        "technicalScore", 8,
+        "communicationScore", 7,
+        "motivationScore", 9,
+        "cultureFitScore", 8,
+        "recommendation", "YES"), headers);
+    String url = "/v1/students/applications/" + applicationId + "/interview";
+
+    ExecutorService pool = Executors.newFixedThreadPool(CREATES);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<HttpStatusCode>> responses = new ArrayList<>();
+    try {
+      for (int i = 0; i < CREATES; i++) {
+        responses.add(pool.submit(() -> {
+          start.await();
+          return rest.postForEntity(url, request, String.class).getStatusCode();
+        }));
+      }
+      start.countDown();
+
+      List<HttpStatusCode> statuses = new ArrayList<>();
+      for (Future<HttpStatusCode> response : responses) {
+        statuses.add(response.get());
+      }
+      assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CREATED)).hasSize(1);
+      assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CONFLICT)).hasSize(CREATES - 1);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(mongoTemplate.count(query(where("applicationId").is(applicationId)), Interview.class))
+        .isEqualTo(1);
+    assertThat(mongoTemplate.findById(applicationId, StudentApplication.class).getStatus())
+        .isEqualTo(InterviewCreator.INTERVIEWED);
+  }
+}
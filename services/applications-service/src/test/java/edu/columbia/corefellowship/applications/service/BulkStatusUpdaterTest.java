@@ -0,0 +1,96 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.dto.BulkStatusUpdateRequest;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkStatusUpdaterTest {
+
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private StatusCounterService counters;
+  private BulkStatusUpdater updater;
+
+  @BeforeEach
+  void setUp() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    mongoTemplate = new MongoTemplate(client, "bulk-status-updater-test");
+    mongoTemplate.dropCollection(StudentApplication.class);
+    counters = new StatusCounterService(mongoTemplate, 0);
+    updater = new BulkStatusUpdater(mongoTemplate, counters,
+        new ExportCache(mongoTemplate, 16, DataSize.ofMegabytes(1), DataSize.ofMegabytes(4), Duration.ofMinutes(5)),
+        new InterviewRankingService(mongoTemplate, 0));
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void duplicateIdsAreUpdatedOnce() {
+    String id = insert("submitted");
+    counters.reconcile();
+
+    Map<String, Object> response = updater.apply(Kind.STUDENT_APPLICATIONS,
+        request("under_review", id, id, id.toUpperCase(Locale.ROOT)));
+
+    assertThat(response).containsEntry("requested", 1).containsEntry(BulkStatusUpdater.UPDATED, 1L);
+    StudentApplication stored = mongoTemplate.findById(id, StudentApplication.class);
+    assertThat(stored.getStatus()).isEqualTo("under_review");
+    assertThat(stored.getVersion()).isEqualTo(1L);
+    assertThat(byStatus()).isEqualTo(Map.of("under_review", 1L));
+  }
+
+  @Test
+  void reportsEveryOutcomeAndMovesCountersOnlyForUpdates() {
+    String submitted = insert("submitted");
+    String alreadyThere = insert("under_review");
+    String missing = new ObjectId().toHexString();
+    counters.reconcile();
+
+    Map<String, Object> response = updater.apply(Kind.STUDENT_APPLICATIONS,
+        request("under_review", submitted, alreadyThere, missing, "not-an-id"));
+
+    assertThat(response.get("results")).isEqualTo(Map.of(
+        submitted, BulkStatusUpdater.UPDATED,
+        alreadyThere, BulkStatusUpdater.UNCHANGED,
+        missing, BulkStatusUpdater.NOT_FOUND,
+        "not-an-id", BulkStatusUpdater.NOT_FOUND));
+    assertThat(byStatus()).isEqualTo(Map.of("under_review", 2L));
+  }
+
+  private String insert(String status) {
+    StudentApplication application = new StudentApplication();
+    application.setTerm("Fall 2025");
+    application.setStatus(status);
+    return mongoTemplate.insert(application).getId();
+  }
+
+  private static BulkStatusUpdateRequest request(String status, String... ids) {
+    BulkStatusUpdateRequest request = new BulkStatusUpdateRequest();
+    request.setStatus(status);
+    request.setIds(List.of(ids));
+    return request;
+  }
+
+  private Object byStatus() {
+    return counters.snapshot(Kind.STUDENT_APPLICATIONS, null).get("byStatus");
+  }
+}
@@ -0,0 +1,99 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The shared budget: what concurrent captures and cached entries may hold between them.
+ */
+class ExportCacheTest {
+
+  private static final Kind KIND = Kind.STUDENT_APPLICATIONS;
+
+  private MongoClient client;
+  private ExportCache cache;
+
+  @BeforeEach
+  void setUp() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    MongoTemplate mongoTemplate = new MongoTemplate(client, "export-cache-test");
+    mongoTemplate.dropCollection(ExportCache.VERSIONS);
+    // Room for one 600 byte body at a time
+    cache = new ExportCache(mongoTemplate, 16, DataSize.ofBytes(1000), DataSize.ofBytes(1000),
+        Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void concurrentCapturesShareTheBudgetAndStillStream() throws IOException {
+    ByteArrayOutputStream response = new ByteArrayOutputStream();
+    ExportCache.CapturingOutputStream first = cache.capture(new ByteArrayOutputStream());
+    ExportCache.CapturingOutputStream second = cache.capture(response);
+
+    first.write(new byte[600]);
+    second.write(new byte[600]);
+
+    assertThat(first.captured()).hasSize(600);
+    assertThat(second.captured()).isNull();
+    assertThat(response.size()).isEqualTo(600);
+    assertThat(cache.usedBytes()).isEqualTo(600);
+
+    first.discard();
+    first.discard();
+    assertThat(cache.usedBytes()).isZero();
+  }
+
+  @Test
+  void cachedEntriesAreEvictedToMakeRoomForANewCapture() throws IOException {
+    long version = cache.version(KIND);
+    cacheBody("a", version);
+    assertThat(cache.get("a")).hasSize(600);
+    assertThat(cache.usedBytes()).isEqualTo(600);
+
+    cacheBody("b", version);
+
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).hasSize(600);
+    assertThat(cache.usedBytes()).isEqualTo(600);
+  }
+
+  @Test
+  void staleOrInvalidatedBodiesGiveTheirBudgetBack() throws IOException {
+    long version = cache.version(KIND);
+    cacheBody("a", version);
+    cache.invalidate(KIND);
+    assertThat(cache.usedBytes()).isZero();
+
+    // Built from the version before the invalidate, so never stored
+    cacheBody("b", version);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.usedBytes()).isZero();
+  }
+
+  private void cacheBody(String key, long version) throws IOException {
+    ExportCache.CapturingOutputStream capture = cache.capture(new ByteArrayOutputStream());
+    try {
+      capture.write(new byte[600]);
+      cache.put(key, KIND, version, capture);
+    } finally {
+      capture.discard();
+    }
+  }
+}
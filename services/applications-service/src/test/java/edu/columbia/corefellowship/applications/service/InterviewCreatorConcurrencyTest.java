@@ -0,0 +1,17 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Standalone server: the insert and the status change run in order and the unique index
+ * turns the losing inserts into duplicate keys.
+ */
+class InterviewCreatorConcurrencyTest extends AbstractInterviewCreatorConcurrencyTest {
+
+  @DynamicPropertySource
+  static void mongo(DynamicPropertyRegistry registry) {
+    EmbeddedMongo.register(registry, "interview-creator-test");
+  }
+}
@@ -0,0 +1,17 @@
+package edu.columbia.corefellowship.applications.service;
+
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Replica set with transactions: concurrent creates abort each other with a transient
+ * WriteConflict, which must be retried into a 409 rather than surface as a 500.
+ */
+class InterviewCreatorTransactionConcurrencyTest extends AbstractInterviewCreatorConcurrencyTest {
+
+  @DynamicPropertySource
+  static void mongo(DynamicPropertyRegistry registry) {
+    EmbeddedMongo.registerReplicaSet(registry, "interview-creator-transaction-test");
+  }
+}
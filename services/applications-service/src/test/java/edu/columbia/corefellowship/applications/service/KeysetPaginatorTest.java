@@ -0,0 +1,85 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.dto.PageResponse;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walking every page must return each document exactly once, including the ones that
+ * have no submittedAt.
+ */
+class KeysetPaginatorTest {
+
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private KeysetPaginator paginator;
+  private final List<String> ids = new ArrayList<>();
+
+  @BeforeEach
+  void seed() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    mongoTemplate = new MongoTemplate(client, "keyset-paginator-test");
+    mongoTemplate.dropCollection(StudentApplication.class);
+    paginator = new KeysetPaginator(mongoTemplate);
+
+    // Undated drafts mixed with dated applications, two of them sharing a timestamp
+    Instant[] submitted = {
+        null, Instant.ofEpochMilli(1_000), null, Instant.ofEpochMilli(2_000),
+        Instant.ofEpochMilli(2_000), null, Instant.ofEpochMilli(0), null};
+    for (Instant submittedAt : submitted) {
+      StudentApplication application = new StudentApplication();
+      application.setTerm("Fall 2025");
+      application.setSubmittedAt(submittedAt);
+      ids.add(mongoTemplate.insert(application).getId());
+    }
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void descendingWalkReachesTheUndatedDocumentsLast() {
+    List<StudentApplication> seen = walk("desc");
+
+    assertThat(seen).extracting(StudentApplication::getId).containsExactlyInAnyOrderElementsOf(ids);
+    assertThat(seen.subList(0, 4)).allSatisfy(application -> assertThat(application.getSubmittedAt()).isNotNull());
+    assertThat(seen.subList(4, 8)).allSatisfy(application -> assertThat(application.getSubmittedAt()).isNull());
+  }
+
+  @Test
+  void ascendingWalkStartsWithTheUndatedDocuments() {
+    List<StudentApplication> seen = walk("asc");
+
+    assertThat(seen).extracting(StudentApplication::getId).containsExactlyInAnyOrderElementsOf(ids);
+    assertThat(seen.subList(0, 4)).allSatisfy(application -> assertThat(application.getSubmittedAt()).isNull());
+    assertThat(seen.subList(4, 8)).allSatisfy(application -> assertThat(application.getSubmittedAt()).isNotNull());
+  }
+
+  private List<StudentApplication> walk(String order) {
+    List<StudentApplication> seen = new ArrayList<>();
+    String cursor = null;
+    do {
+      // Page size 3 puts page boundaries inside both the dated and the undated runs
+      PageResponse<StudentApplication> page = paginator.page(new Query(), StudentApplication.class, 3, cursor,
+          order, StudentApplication::getSubmittedAt, StudentApplication::getId);
+      seen.addAll(page.getItems());
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    return seen;
+  }
+}
@@ -0,0 +1,104 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import edu.columbia.corefellowship.applications.service.StatusCounterService.Kind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusCounterServiceTest {
+
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+
+  @BeforeEach
+  void setUp() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    mongoTemplate = new MongoTemplate(client, "status-counter-test");
+    mongoTemplate.dropCollection(StudentApplication.class);
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void reconcileDuringAWriteCountsItOnce() throws Exception {
+    StatusCounterService counters = new StatusCounterService(mongoTemplate, 0);
+    CountDownLatch inserted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Inserted, then held before its counter change, with a reconcile started meanwhile
+    CompletableFuture<Void> write = CompletableFuture.runAsync(() -> counters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      StudentApplication saved = insert("submitted");
+      inserted.countDown();
+      await(release);
+      counts.created(saved.getTerm(), saved.getStatus());
+      return saved;
+    }));
+    inserted.await(5, TimeUnit.SECONDS);
+    CompletableFuture<Void> reconcile = CompletableFuture.runAsync(counters::reconcile);
+    release.countDown();
+
+    write.get(5, TimeUnit.SECONDS);
+    reconcile.get(5, TimeUnit.SECONDS);
+    assertThat(byStatus(counters)).isEqualTo(Map.of("submitted", 1L));
+  }
+
+  @Test
+  void countsCannotBeUsedAfterTheirWrite() {
+    StatusCounterService counters = new StatusCounterService(mongoTemplate, 0);
+    AtomicReference<StatusCounterService.Counts> escaped = new AtomicReference<>();
+    counters.write(Kind.STUDENT_APPLICATIONS, counts -> {
+      escaped.set(counts);
+      return null;
+    });
+
+    assertThatThrownBy(() -> escaped.get().created("Fall 2025", "submitted"))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void refreshIsSkippedWithinTheMinimumInterval() {
+    StatusCounterService counters = new StatusCounterService(mongoTemplate, 60_000);
+
+    assertThat(counters.refresh()).isTrue();
+    insert("submitted");
+
+    assertThat(counters.refresh()).isFalse();
+    assertThat(byStatus(counters)).isEqualTo(Map.of());
+  }
+
+  private StudentApplication insert(String status) {
+    StudentApplication application = new StudentApplication();
+    application.setTerm("Fall 2025");
+    application.setStatus(status);
+    return mongoTemplate.insert(application);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Object byStatus(StatusCounterService counters) {
+    return counters.snapshot(Kind.STUDENT_APPLICATIONS, null).get("byStatus");
+  }
+}
@@ -0,0 +1,76 @@
+package edu.columbia.corefellowship.applications.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedUpdatesTest {
+
+  private MongoClient client;
+  private MongoTemplate mongoTemplate;
+  private VersionedUpdates versionedUpdates;
+
+  @BeforeEach
+  void setUp() {
+    client = MongoClients.create(EmbeddedMongo.uri());
+    mongoTemplate = new MongoTemplate(client, "versioned-updates-test");
+    mongoTemplate.dropCollection(StudentApplication.class);
+    versionedUpdates = new VersionedUpdates(mongoTemplate);
+  }
+
+  @AfterEach
+  void disconnect() {
+    client.close();
+  }
+
+  @Test
+  void statusChangeReturnsTheNewDocumentAndThePreviousStatus() {
+    String id = insert("submitted");
+
+    VersionedUpdates.StatusChange<StudentApplication> change = changeStatus(id, 0L, "under_review");
+
+    assertThat(change.getPreviousStatus()).isEqualTo("submitted");
+    assertThat(change.getDocument().getStatus()).isEqualTo("under_review");
+    assertThat(change.getDocument().getVersion()).isEqualTo(1L);
+  }
+
+  @Test
+  void staleVersionIsAConflictAndMissingDocumentNotFound() {
+    String id = insert("submitted");
+    changeStatus(id, null, "under_review");
+
+    assertThatThrownBy(() -> changeStatus(id, 0L, "accepted"))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    assertThatThrownBy(() -> changeStatus(new ObjectId().toHexString(), null, "accepted"))
+        .isInstanceOfSatisfying(ResponseStatusException.class,
+            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    assertThat(mongoTemplate.findById(id, StudentApplication.class).getStatus()).isEqualTo("under_review");
+  }
+
+  private VersionedUpdates.StatusChange<StudentApplication> changeStatus(String id, Long version, String status) {
+    Update update = Update.update("status", status).inc(VersionedUpdates.VERSION, 1);
+    return versionedUpdates.modifyStatus(Criteria.where("id").is(id), version, update,
+        StudentApplication.class, StudentApplication::getStatus, "Application not found");
+  }
+
+  private String insert(String status) {
+    StudentApplication application = new StudentApplication();
+    application.setTerm("Fall 2025");
+    application.setStatus(status);
+    return mongoTemplate.insert(application).getId();
+  }
+}
@@ -0,0 +1,189 @@
+package edu.columbia.corefellowship.applications.storage;
+
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import edu.columbia.corefellowship.applications.EmbeddedMongo;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A resume upload through the HTTP endpoint into GcsBlobStore, backed by the in-memory
+ * Storage from google-cloud-nio's LocalStorageHelper. Every WriteChannel the store opens is
+ * recorded, so the test sees how the file was chunked on its way in.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "storage.backend=gcs",
+    "gcs.bucket-name=" + GcsResumeUploadTest.BUCKET,
+    "gcs.upload-chunk-size=" + GcsResumeUploadTest.CHUNK_SIZE,
+    // Only keeps GcsConfig from reading credentials; the LocalStorageHelper Storage is used instead
+    "gcs.emulator-host=http://localhost:1"
+})
+class GcsResumeUploadTest {
+
+  static final String BUCKET = "resumes-test";
+  static final int CHUNK_SIZE = 256 * 1024;
+
+  private static final int FILE_SIZE = 4 * 1024 * 1024 + 123;
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final String OWNER = "000000000000000000000042";
+
+  private static final List<RecordingWriteChannel> channels = new CopyOnWriteArrayList<>();
+
+  @Autowired
+  private TestRestTemplate rest;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private Storage storage;
+
+  @DynamicPropertySource
+  static void mongo(DynamicPropertyRegistry registry) {
+    EmbeddedMongo.register(registry, "gcs-resume-upload-test");
+  }
+
+  @TestConfiguration
+  static class LocalStorage {
+
+    @Bean
+    @Primary
+    Storage recordingStorage() {
+      Storage local = LocalStorageHelper.getOptions().getService();
+      return (Storage) Proxy.newProxyInstance(Storage.class.getClassLoader(), new Class<?>[] {Storage.class},
+          (proxy, method, args) -> {
+            try {
+              Object result = method.invoke(local, args);
+              if (method.getName().equals("writer") && result instanceof WriteChannel writer) {
+                RecordingWriteChannel recording = new RecordingWriteChannel(writer);
+                channels.add(recording);
+                return recording;
+              }
+              return result;
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          });
+    }
+  }
+
+  @Test
+  void uploadIsStreamedToTheWriteChannelInChunks() {
+    StudentApplication application = new StudentApplication();
+    application.setUserId(OWNER);
+    application.setFullName("Grace Hopper");
+    application.setTerm("Fall 2025");
+    application.setStatus("submitted");
+    String applicationId = mongoTemplate.insert(application).getId();
+
+    byte[] pdf = new byte[FILE_SIZE];
+    new Random(11).nextBytes(pdf);
+    MultipartBodyBuilder multipart = new MultipartBodyBuilder();
+    multipart.part("file", new ByteArrayResource(pdf))
+        .filename("resume.pdf")
+        .contentType(MediaType.APPLICATION_PDF);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+    headers.set("X-User-Id", OWNER);
+    headers.set("X-User-Role", "ROLE_USER");
+
+    @SuppressWarnings("rawtypes")
+    ResponseEntity<Map> response = rest.postForEntity(
+        "/v1/students/applications/" + applicationId + "/resume",
+        new HttpEntity<>(multipart.build(), headers), Map.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    String blobName = (String) response.getBody().get("resumeUrl");
+
+    assertThat(channels).hasSize(1);
+    RecordingWriteChannel channel = channels.get(0);
+    assertThat(channel.chunkSize).isEqualTo(CHUNK_SIZE);
+    assertThat(channel.closed).isTrue();
+    assertThat(channel.writes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(FILE_SIZE);
+    // Copied through a fixed buffer, never handed over as one array
+    assertThat(channel.writes).allSatisfy(size -> assertThat(size).isBetween(1, COPY_BUFFER_SIZE));
+    assertThat(channel.writes.size()).isGreaterThanOrEqualTo(FILE_SIZE / COPY_BUFFER_SIZE);
+
+    Blob stored = storage.get(BlobId.of(BUCKET, blobName));
+    assertThat(stored.getContentType()).isEqualTo(MediaType.APPLICATION_PDF_VALUE);
+    assertThat(stored.getSize()).isEqualTo(FILE_SIZE);
+    assertThat(stored.getContent()).isEqualTo(pdf);
+  }
+
+  /**
+   * Passes everything through and remembers the chunk size and the size of every write.
+   */
+  private static final class RecordingWriteChannel implements WriteChannel {
+
+    private final WriteChannel delegate;
+    private final List<Integer> writes = new CopyOnWriteArrayList<>();
+    private volatile int chunkSize;
+    private volatile boolean closed;
+
+    private RecordingWriteChannel(WriteChannel delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+      delegate.setChunkSize(chunkSize);
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+      int written = delegate.write(source);
+      if (written > 0) {
+        writes.add(written);
+      }
+      return written;
+    }
+
+    @Override
+    public RestorableState<WriteChannel> capture() {
+      return delegate.capture();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      delegate.close();
+    }
+  }
+}
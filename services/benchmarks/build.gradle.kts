@@ -0,0 +1,52 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh")
+    java
+}
+
+// Same dependency versions as the services under test
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    jmh(project(":api-gateway"))
+    jmh(project(":identity-service"))
+    jmh(project(":applications-service"))
+
+    // The services keep these as implementation dependencies, so they are not on this
+    // module's compile classpath unless listed here
+    jmh("io.jsonwebtoken:jjwt-api:0.12.5")
+    jmh("io.micrometer:micrometer-core")
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    jmh("jakarta.servlet:jakarta.servlet-api")
+    jmh("org.springframework:spring-web")
+    jmh("org.springframework.security:spring-security-core")
+    jmh("org.springframework:spring-test") // Mock servlet request/response for the filter benchmark
+    jmh("org.springframework.data:spring-data-mongodb") // Model index definitions for the keyset benchmark
+    jmh("org.mongodb:mongodb-driver-sync")
+}
+
+// ./gradlew :benchmarks:jmh                        - everything
+// ./gradlew :benchmarks:jmh -Pjmh.includes=Csv     - benchmarks whose name matches a regex
+// KeysetPageBenchmark reads a seeded Mongo (./gradlew :data-seeder:seed); -Pbench.* properties
+// such as -Pbench.mongoUri are passed to the forked JVMs.
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    fork.set(1)
+    // gc reports allocation per operation (gc.alloc.rate.norm) alongside GC counts and time
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+    jvmArgsAppend.set(providers.gradlePropertiesPrefixedBy("bench.").get().map { (key, value) -> "-D$key=$value" })
+}
@@ -0,0 +1,64 @@
+package edu.columbia.corefellowship.applications.export;
+
+import edu.columbia.corefellowship.applications.model.Startup;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import edu.columbia.corefellowship.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV export cells and rows through CsvWriter and the export schemas.
+ *
+ * Output drains into a null writer whenever the buffer fills, as it would into the
+ * response. With -prof gc, gc.alloc.rate.norm is the bytes allocated per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CsvWriterBenchmark {
+
+  private static final String PLAIN = "Columbia College";
+  private static final String NEEDS_QUOTING = "Gridline, Inc. - \"grid-scale\" storage";
+
+  private StudentApplication application;
+  private Startup startup;
+  private CsvWriter csv;
+
+  @Setup
+  public void setUp() {
+    application = Fixtures.studentApplication();
+    startup = Fixtures.startup();
+    csv = new CsvWriter(Writer.nullWriter());
+  }
+
+  @Benchmark
+  public void textPlain() throws IOException {
+    csv.text(PLAIN);
+    csv.endRow();
+  }
+
+  @Benchmark
+  public void textQuoted() throws IOException {
+    csv.text(NEEDS_QUOTING);
+    csv.endRow();
+  }
+
+  @Benchmark
+  public void studentRow() throws IOException {
+    ExportSchemas.STUDENT_APPLICATIONS.writeRow(csv, application);
+  }
+
+  @Benchmark
+  public void startupRow() throws IOException {
+    ExportSchemas.STARTUPS.writeRow(csv, startup);
+  }
+}
@@ -0,0 +1,126 @@
+package edu.columbia.corefellowship.benchmarks;
+
+import edu.columbia.corefellowship.applications.dto.CreateStudentApplicationRequest;
+import edu.columbia.corefellowship.applications.model.Startup;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Representative documents for the benchmarks: every field populated, with the
+ * free-text answers at the length real applicants write.
+ */
+public final class Fixtures {
+
+  public static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+  public static final String JWT_ISSUER = "core-fellowship-identity";
+  public static final String JWT_AUDIENCE = "core-fellowship-api";
+
+  private static final String LONG_ANSWER =
+      "I have built two student-run products, one of which grew to a few hundred weekly users, "
+          + "and I want to spend the summer at an early-stage company where I can own a feature end to end. "
+          + "I am most interested in climate, fintech and developer tools, \"especially\" infrastructure work.";
+
+  private Fixtures() {
+  }
+
+  public static StudentApplication studentApplication() {
+    StudentApplication app = new StudentApplication();
+    app.setId("65f1c2a9e4b0a1b2c3d4e5f6");
+    app.setUserId("65f1c2a9e4b0a1b2c3d4e5f7");
+    app.setFullName("Jordan Rivera");
+    app.setPronouns("they/them");
+    app.setGradYear("2027");
+    app.setSchool("Columbia College");
+    app.setMajor("Computer Science, Economics");
+    app.setEmail("jr1234@columbia.edu");
+    app.setLinkedinProfile("https://www.linkedin.com/in/jordan-rivera");
+    app.setPortfolioWebsite("https://github.com/jrivera");
+    app.setResumeUrl("resumes/65f1c2a9e4b0a1b2c3d4e5f7/resume-65f1c2a9e4b0a1b2c3d4e5f7-1718000000000.pdf");
+    app.setHowDidYouHear("Word-of-mouth");
+    app.setReferralSource("Previous fellow");
+    app.setRolePreferences(List.of("Tech", "Business"));
+    app.setStartupsAndIndustries(LONG_ANSWER);
+    app.setContributionAndExperience(LONG_ANSWER);
+    app.setWorkMode("Hybrid");
+    app.setTimeCommitment("20 hours/week");
+    app.setIsUSCitizen("Yes");
+    app.setAdditionalComments(LONG_ANSWER);
+    app.setPreviouslyApplied(false);
+    app.setPreviouslyParticipated(false);
+    app.setHasUpcomingInternshipOffers(true);
+    app.setTerm("Fall 2025");
+    app.setStatus("under_review");
+    app.setSubmittedAt(Instant.parse("2025-03-01T14:30:00Z"));
+    app.setUpdatedAt(Instant.parse("2025-03-04T09:15:00Z"));
+    app.setVersion(3L);
+    return app;
+  }
+
+  public static Startup startup() {
+    Startup.Position position = new Startup.Position();
+    position.setRoleType("Technical");
+    position.setDescription("Backend work on the data pipeline, Java and Postgres");
+    position.setRequiredSkills(List.of("Java", "SQL", "AWS"));
+    position.setTimeCommitment("15-20 hours/week");
+
+    Startup startup = new Startup();
+    startup.setId("65f1c2a9e4b0a1b2c3d4e5f8");
+    startup.setUserId("65f1c2a9e4b0a1b2c3d4e5f9");
+    startup.setCompanyName("Gridline, Inc.");
+    startup.setWebsite("https://gridline.example.com");
+    startup.setIndustry("Climate");
+    startup.setDescription(LONG_ANSWER);
+    startup.setStage("Seed");
+    startup.setTeamSize("8");
+    startup.setFoundedYear("2022");
+    startup.setContactName("Sam Lee");
+    startup.setContactTitle("CTO");
+    startup.setContactEmail("sam@gridline.example.com");
+    startup.setContactPhone("+1 212 555 0100");
+    startup.setOperatingMode("Hybrid");
+    startup.setTimeZone("America/New_York");
+    startup.setInternsSupervisor("Sam Lee");
+    startup.setHasHiredInternsPreviously(true);
+    startup.setNumberOfInternsNeeded(2);
+    startup.setPositions(List.of(position, position));
+    startup.setWillPayInterns("Yes");
+    startup.setPayAmount("25");
+    startup.setLookingForPermanentIntern("Other");
+    startup.setReferralSource("Columbia Entrepreneurship");
+    startup.setCommitmentAcknowledged(true);
+    startup.setTerm("Fall 2025");
+    startup.setStatus("approved");
+    startup.setSubmittedAt(Instant.parse("2025-02-20T16:00:00Z"));
+    startup.setUpdatedAt(Instant.parse("2025-02-25T10:00:00Z"));
+    startup.setVersion(2L);
+    return startup;
+  }
+
+  public static CreateStudentApplicationRequest createStudentApplicationRequest() {
+    StudentApplication app = studentApplication();
+    CreateStudentApplicationRequest request = new CreateStudentApplicationRequest();
+    request.setFullName(app.getFullName());
+    request.setPronouns(app.getPronouns());
+    request.setGradYear(app.getGradYear());
+    request.setSchool(app.getSchool());
+    request.setMajor(app.getMajor());
+    request.setEmail(app.getEmail());
+    request.setLinkedinProfile(app.getLinkedinProfile());
+    request.setPortfolioWebsite(app.getPortfolioWebsite());
+    request.setHowDidYouHear(app.getHowDidYouHear());
+    request.setReferralSource(app.getReferralSource());
+    request.setRolePreferences(app.getRolePreferences());
+    request.setStartupsAndIndustries(app.getStartupsAndIndustries());
+    request.setContributionAndExperience(app.getContributionAndExperience());
+    request.setWorkMode(app.getWorkMode());
+    request.setTimeCommitment(app.getTimeCommitment());
+    request.setIsUSCitizen(app.getIsUSCitizen());
+    request.setAdditionalComments(app.getAdditionalComments());
+    request.setPreviouslyApplied(app.getPreviouslyApplied());
+    request.setPreviouslyParticipated(app.getPreviouslyParticipated());
+    request.setHasUpcomingInternshipOffers(app.getHasUpcomingInternshipOffers());
+    return request;
+  }
+}
@@ -0,0 +1,38 @@
+package edu.columbia.corefellowship.benchmarks;
+
+import edu.columbia.corefellowship.applications.model.Interview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interview.calculateOverallScore, run on every interview create and update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterviewScoreBenchmark {
+
+  private Interview interview;
+
+  @Setup
+  public void setUp() {
+    interview = new Interview();
+    interview.setTechnicalScore(8);
+    interview.setCommunicationScore(7);
+    interview.setMotivationScore(9);
+    interview.setCultureFitScore(6);
+  }
+
+  @Benchmark
+  public Double calculateOverallScore() {
+    interview.calculateOverallScore();
+    return interview.getOverallScore();
+  }
+}
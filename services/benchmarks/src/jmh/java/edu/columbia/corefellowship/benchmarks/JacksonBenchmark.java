@@ -0,0 +1,93 @@
+package edu.columbia.corefellowship.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import edu.columbia.corefellowship.applications.dto.CreateStudentApplicationRequest;
+import edu.columbia.corefellowship.applications.model.Startup;
+import edu.columbia.corefellowship.applications.model.StudentApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization of the documents the applications service reads and writes most.
+ *
+ * The mapper is configured like Spring Boot's (java.time module, ISO dates), with readers
+ * and writers resolved once as the MVC message converters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonBenchmark {
+
+  private StudentApplication application;
+  private Startup startup;
+  private CreateStudentApplicationRequest createRequest;
+
+  private ObjectWriter applicationWriter;
+  private ObjectWriter startupWriter;
+  private ObjectReader applicationReader;
+  private ObjectReader startupReader;
+  private ObjectReader createRequestReader;
+
+  private byte[] applicationJson;
+  private byte[] startupJson;
+  private byte[] createRequestJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper mapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    application = Fixtures.studentApplication();
+    startup = Fixtures.startup();
+    createRequest = Fixtures.createStudentApplicationRequest();
+
+    applicationWriter = mapper.writerFor(StudentApplication.class);
+    startupWriter = mapper.writerFor(Startup.class);
+    applicationReader = mapper.readerFor(StudentApplication.class);
+    startupReader = mapper.readerFor(Startup.class);
+    createRequestReader = mapper.readerFor(CreateStudentApplicationRequest.class);
+
+    applicationJson = applicationWriter.writeValueAsBytes(application);
+    startupJson = startupWriter.writeValueAsBytes(startup);
+    createRequestJson = mapper.writeValueAsBytes(createRequest);
+  }
+
+  @Benchmark
+  public byte[] writeStudentApplication() throws IOException {
+    return applicationWriter.writeValueAsBytes(application);
+  }
+
+  @Benchmark
+  public StudentApplication readStudentApplication() throws IOException {
+    return applicationReader.readValue(applicationJson);
+  }
+
+  @Benchmark
+  public byte[] writeStartup() throws IOException {
+    return startupWriter.writeValueAsBytes(startup);
+  }
+
+  @Benchmark
+  public Startup readStartup() throws IOException {
+    return startupReader.readValue(startupJson);
+  }
+
+  @Benchmark
+  public CreateStudentApplicationRequest readCreateStudentApplicationRequest() throws IOException {
+    return createRequestReader.readValue(createRequestJson);
+  }
+}
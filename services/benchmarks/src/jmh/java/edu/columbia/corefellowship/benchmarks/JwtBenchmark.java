@@ -0,0 +1,119 @@
+package edu.columbia.corefellowship.benchmarks;
+
+import edu.columbia.corefellowship.gateway.security.JwtPrincipal;
+import edu.columbia.corefellowship.identity.model.User;
+import edu.columbia.corefellowship.identity.model.UserRole;
+import edu.columbia.corefellowship.identity.model.UserType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue in identity-service and token verification in the gateway.
+ *
+ * verifyBeforeCache is what the gateway filter paid per request before verify() existed:
+ * extractUserId, extractRole and extractEmail each built a new parser and parsed the token,
+ * copied here because JwtUtil no longer works that way. validateToken is one parse with the
+ * shared parser, verifyUncached adds building the principal with the cache disabled, and
+ * verifyCached is the steady state for a logged-in user (one digest plus a map lookup).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+  private edu.columbia.corefellowship.identity.util.JwtUtil issuer;
+  private edu.columbia.corefellowship.gateway.util.JwtUtil cachedVerifier;
+  private edu.columbia.corefellowship.gateway.util.JwtUtil uncachedVerifier;
+  private SecretKey secretKey;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    edu.columbia.corefellowship.identity.config.JwtProperties identityProperties =
+        new edu.columbia.corefellowship.identity.config.JwtProperties();
+    identityProperties.setSecret(Fixtures.JWT_SECRET);
+    identityProperties.setIssuer(Fixtures.JWT_ISSUER);
+    identityProperties.setAudience(Fixtures.JWT_AUDIENCE);
+    identityProperties.setExpirationHours(24);
+    issuer = new edu.columbia.corefellowship.identity.util.JwtUtil(identityProperties);
+
+    user = new User();
+    user.setId("65f1c2a9e4b0a1b2c3d4e5f7");
+    user.setEmail("jr1234@columbia.edu");
+    user.setFullName("Jordan Rivera");
+    user.setUserType(UserType.STUDENT);
+    user.setRole(UserRole.ROLE_USER);
+    token = issuer.generateToken(user);
+
+    secretKey = Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+    cachedVerifier = gatewayJwtUtil(10_000);
+    uncachedVerifier = gatewayJwtUtil(0);
+    // Prime the cache so verifyCached measures hits only
+    cachedVerifier.verify(token);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return issuer.generateToken(user);
+  }
+
+  @Benchmark
+  public void verifyBeforeCache(Blackhole blackhole) {
+    blackhole.consume(parseBeforeCache().getSubject());
+    blackhole.consume(parseBeforeCache().get("role", String.class));
+    blackhole.consume(parseBeforeCache().get("email", String.class));
+  }
+
+  @Benchmark
+  public Claims validateToken() {
+    return uncachedVerifier.validateToken(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal verifyUncached() {
+    return uncachedVerifier.verify(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal verifyCached() {
+    return cachedVerifier.verify(token);
+  }
+
+  /**
+   * The gateway's validateToken before the parser was built once.
+   */
+  private Claims parseBeforeCache() {
+    return Jwts.parser()
+        .verifyWith(secretKey)
+        .requireIssuer(Fixtures.JWT_ISSUER)
+        .requireAudience(Fixtures.JWT_AUDIENCE)
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+
+  static edu.columbia.corefellowship.gateway.util.JwtUtil gatewayJwtUtil(int cacheMaxEntries) {
+    edu.columbia.corefellowship.gateway.config.JwtProperties properties =
+        new edu.columbia.corefellowship.gateway.config.JwtProperties();
+    properties.setSecret(Fixtures.JWT_SECRET);
+    properties.setIssuer(Fixtures.JWT_ISSUER);
+    properties.setAudience(Fixtures.JWT_AUDIENCE);
+    properties.setCacheMaxEntries(cacheMaxEntries);
+    return new edu.columbia.corefellowship.gateway.util.JwtUtil(properties, new SimpleMeterRegistry());
+  }
+}
@@ -0,0 +1,76 @@
+package edu.columbia.corefellowship.benchmarks;
+
+import edu.columbia.corefellowship.gateway.security.JwtAuthenticationFilter;
+import edu.columbia.corefellowship.gateway.util.JwtUtil;
+import edu.columbia.corefellowship.identity.model.User;
+import edu.columbia.corefellowship.identity.model.UserRole;
+import edu.columbia.corefellowship.identity.model.UserType;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The gateway's JwtAuthenticationFilter on an authenticated GET, with and without the
+ * verified-token cache.
+ *
+ * The mock request/response are created per call (OncePerRequestFilter marks the request
+ * as filtered), so their allocation is part of the reported gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+  @Param({"10000", "0"})
+  public int cacheMaxEntries;
+
+  private JwtAuthenticationFilter filter;
+  private String authorization;
+
+  @Setup
+  public void setUp() {
+    edu.columbia.corefellowship.identity.config.JwtProperties identityProperties =
+        new edu.columbia.corefellowship.identity.config.JwtProperties();
+    identityProperties.setSecret(Fixtures.JWT_SECRET);
+    identityProperties.setIssuer(Fixtures.JWT_ISSUER);
+    identityProperties.setAudience(Fixtures.JWT_AUDIENCE);
+    identityProperties.setExpirationHours(24);
+
+    User user = new User();
+    user.setId("65f1c2a9e4b0a1b2c3d4e5f6");
+    user.setEmail("admin@columbia.edu");
+    user.setUserType(UserType.ADMIN);
+    user.setRole(UserRole.ROLE_ADMIN);
+    authorization = "Bearer "
+        + new edu.columbia.corefellowship.identity.util.JwtUtil(identityProperties).generateToken(user);
+
+    JwtUtil jwtUtil = JwtBenchmark.gatewayJwtUtil(cacheMaxEntries);
+    filter = new JwtAuthenticationFilter(jwtUtil);
+  }
+
+  @Benchmark
+  public int authenticatedRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/students/applications/page");
+    request.addHeader("Authorization", authorization);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      filter.doFilter(request, response, NO_OP_CHAIN);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+    return response.getStatus();
+  }
+}
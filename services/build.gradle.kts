@@ -2,6 +2,7 @@ plugins {
     // apply false so each module can apply Boot only when needed
     id("org.springframework.boot") version "3.4.1" apply false
     id("io.spring.dependency-management") version "1.1.7" apply false
+    id("me.champeau.jmh") version "0.7.2" apply false
     java
 }
 
@@ -0,0 +1,36 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    id("io.spring.dependency-management")
+    java
+}
+
+// Same driver version as the services
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    implementation("org.mongodb:mongodb-driver-sync")
+    implementation("org.springframework.security:spring-security-crypto") // Seed users' password hash
+    implementation("org.slf4j:slf4j-simple")
+}
+
+// ./gradlew :data-seeder:seed                                           - 1M students against docker compose Mongo
+// ./gradlew :data-seeder:seed -Pseed.students=5000000 -Pseed.drop=true  - replace the collections
+// ./gradlew :data-seeder:seed -Pseed.mongoUri=mongodb://localhost:27017
+// Any -Pseed.* property is passed to the seeder; see SeedSettings for the full list.
+tasks.register<JavaExec>("seed") {
+    group = "application"
+    description = "Fills the identity and applications databases with synthetic data."
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("edu.columbia.corefellowship.seeder.SeedMain")
+    maxHeapSize = "2g"
+
+    providers.gradlePropertiesPrefixedBy("seed.").get().forEach { (key, value) ->
+        systemProperty(key, value)
+    }
+}
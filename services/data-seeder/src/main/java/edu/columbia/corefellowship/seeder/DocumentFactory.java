@@ -0,0 +1,423 @@
+package edu.columbia.corefellowship.seeder;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Builds users, student applications, interviews and startups as raw BSON, laid out the
+ * way Spring Data maps the service models (ObjectId _id, string references, _class).
+ *
+ * The distributions are modelled on the intake forms and the admin workflow: recent
+ * terms are larger, the open term is still mostly submitted/under review, and only
+ * applications that reached the interview stage get an interview.
+ */
+final class DocumentFactory {
+
+  private static final String STUDENT_CLASS = "edu.columbia.corefellowship.applications.model.StudentApplication";
+  private static final String STARTUP_CLASS = "edu.columbia.corefellowship.applications.model.Startup";
+  private static final String INTERVIEW_CLASS = "edu.columbia.corefellowship.applications.model.Interview";
+  private static final String USER_CLASS = "edu.columbia.corefellowship.identity.model.User";
+
+  // Oldest first; the last one is the term currently taking applications
+  private static final List<Term> TERMS = List.of(
+      new Term("Spring 2024", LocalDate.of(2023, 10, 1), LocalDate.of(2024, 1, 15)),
+      new Term("Fall 2024", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 6, 30)),
+      new Term("Spring 2025", LocalDate.of(2024, 10, 1), LocalDate.of(2025, 1, 15)),
+      new Term("Fall 2025", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 6, 30)),
+      new Term("Spring 2026", LocalDate.of(2025, 10, 1), LocalDate.of(2026, 1, 15)));
+  private static final Term CURRENT_TERM = TERMS.get(TERMS.size() - 1);
+
+  // The program grows every term
+  private static final Weighted<Term> TERM = Weighted.<Term>of()
+      .add(TERMS.get(0), 10).add(TERMS.get(1), 15).add(TERMS.get(2), 20)
+      .add(TERMS.get(3), 25).add(TERMS.get(4), 30);
+
+  private static final Weighted<String> OPEN_STUDENT_STATUS = Weighted.<String>of()
+      .add("submitted", 55).add("under_review", 25).add("interviewed", 12)
+      .add("finalist", 3).add("rejected", 5);
+  private static final Weighted<String> CLOSED_STUDENT_STATUS = Weighted.<String>of()
+      .add("rejected", 62).add("interviewed", 12).add("finalist", 8)
+      .add("accepted", 10).add("under_review", 3).add("submitted", 5);
+  private static final Weighted<String> OPEN_STARTUP_STATUS = Weighted.<String>of()
+      .add("submitted", 60).add("approved", 30).add("active", 10);
+  private static final Weighted<String> CLOSED_STARTUP_STATUS = Weighted.<String>of()
+      .add("active", 20).add("inactive", 55).add("approved", 15).add("submitted", 10);
+
+  private static final Weighted<String> SCHOOL = Weighted.<String>of()
+      .add("CC", 40).add("SEAS", 30).add("Barnard", 15).add("GS", 10).add("", 5);
+  private static final Weighted<String> GRAD_YEAR = Weighted.<String>of()
+      .add("2026", 30).add("2027", 30).add("2028", 25).add("2029", 15);
+  private static final Weighted<String> MAJOR = Weighted.<String>of()
+      .add("Computer Science", 22).add("Economics", 14).add("Financial Engineering", 6)
+      .add("Mathematics", 6).add("Data Science", 6).add("Political Science", 5)
+      .add("Mechanical Engineering", 4).add("Biomedical Engineering", 4)
+      .add("Operations Research", 4).add("Psychology", 4).add("Film and Media Studies", 3)
+      .add("Sustainable Development", 3).add("English", 3).add("Urban Studies", 3)
+      .add("Visual Arts", 3).add("Neuroscience", 3).add("History", 3).add("Philosophy", 2);
+  private static final Weighted<String> PRONOUNS = Weighted.<String>of()
+      .add("she/her", 46).add("he/him", 44).add("they/them", 5).add(null, 5);
+  private static final Weighted<String> HOW_DID_YOU_HEAR = Weighted.<String>of()
+      .add("Website", 30).add("Word-of-mouth", 30).add("Previous Fellow", 15)
+      .add("Social Media", 20).add("Other", 5);
+  private static final Weighted<String> WORK_MODE = Weighted.<String>of()
+      .add("Hybrid", 45).add("Remote", 25).add("In person (NYC)", 15).add("Anything", 15);
+  private static final Weighted<String> TIME_COMMITMENT = Weighted.<String>of()
+      .add("10 hours/week", 25).add("15 hours/week", 30).add("20 hours/week", 25)
+      .add("Mon/Wed/Fri afternoons", 10).add("Full time over the summer", 10);
+  private static final Weighted<String> WORK_AUTHORIZATION = Weighted.<String>of()
+      .add("F-1, eligible for CPT", 60).add("F-1, OPT after graduation", 25)
+      .add("H-4 EAD", 5).add("Green card pending", 10);
+
+  private static final Weighted<String> INDUSTRY = Weighted.<String>of()
+      .add("Fintech", 16).add("SaaS", 16).add("Healthcare", 12).add("AI/ML", 14)
+      .add("Climate", 9).add("EdTech", 8).add("Consumer", 8).add("Media", 6)
+      .add("Biotech", 5).add("Real Estate", 3).add("Nonprofit", 3);
+  private static final Weighted<String> STAGE = Weighted.<String>of()
+      .add("Pre-seed", 30).add("Seed", 35).add("Series A", 15).add("Series B+", 5)
+      .add("Bootstrapped", 15);
+  private static final Weighted<String> TEAM_SIZE = Weighted.<String>of()
+      .add("1-5 people", 40).add("5-10 people", 30).add("10-25 people", 18)
+      .add("25-50 people", 8).add("50+ people", 4);
+  private static final Weighted<String> OPERATING_MODE = Weighted.<String>of()
+      .add("Hybrid", 50).add("Fully Remote", 30).add("Fully In Person", 20);
+  private static final Weighted<String> TIME_ZONE = Weighted.<String>of()
+      .add("EST", 75).add("CST", 7).add("PST", 13).add("GMT", 5);
+  private static final Weighted<String> YES_NO_OTHER = Weighted.<String>of()
+      .add("Yes", 60).add("No", 30).add("Other", 10);
+  private static final Weighted<String> CONTACT_TITLE = Weighted.<String>of()
+      .add("CEO", 45).add("Founder", 25).add("CTO", 15).add("COO", 10).add("Head of Talent", 5);
+  private static final Weighted<String> ROLE_TYPE = Weighted.<String>of()
+      .add("Technical", 55).add("Business", 30).add("Creative", 15);
+  private static final Weighted<String> POSITION_HOURS = Weighted.<String>of()
+      .add("10-15 hours/week", 40).add("15-20 hours/week", 40).add("20+ hours/week", 20);
+
+  private static final String[] TECHNICAL_SKILLS = {
+      "Python", "JavaScript", "TypeScript", "React", "Node.js", "Java", "SQL", "Git", "APIs",
+      "AWS", "Docker", "Swift", "Kotlin", "Machine Learning", "Pandas"};
+  private static final String[] BUSINESS_SKILLS = {
+      "Excel", "Financial modeling", "Market research", "Sales", "Customer discovery",
+      "Operations", "Business development", "Notion", "Salesforce"};
+  private static final String[] CREATIVE_SKILLS = {
+      "Figma", "Copywriting", "Video editing", "Adobe Creative Suite", "Social media",
+      "Illustration", "Brand design", "Photography"};
+
+  private static final String[] FIRST_NAMES = {
+      "Olivia", "Liam", "Emma", "Noah", "Ava", "Ethan", "Sophia", "Lucas", "Mia", "Mateo",
+      "Isabella", "Aiden", "Priya", "Arjun", "Mei", "Wei", "Fatima", "Omar", "Chloe", "Daniel",
+      "Grace", "Samuel", "Zoe", "Julian", "Leah", "Diego", "Hannah", "Kai", "Nadia", "Yusuf"};
+  private static final String[] LAST_NAMES = {
+      "Smith", "Johnson", "Williams", "Brown", "Garcia", "Miller", "Davis", "Rodriguez",
+      "Martinez", "Chen", "Wang", "Li", "Kim", "Patel", "Shah", "Nguyen", "Cohen", "Lee",
+      "Khan", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Ali"};
+  private static final String[] COMPANY_PREFIXES = {
+      "Blue", "Bright", "North", "Civic", "Open", "Quantum", "Green", "Atlas", "Nova", "Harbor",
+      "Summit", "Pixel", "Lumen", "Vertex", "Orbit", "Cedar", "Signal", "Kite"};
+  private static final String[] COMPANY_SUFFIXES = {
+      "Labs", "AI", "Health", "Pay", "Works", "Stack", "Learn", "Grid", "Bio", "Studio", "Logic"};
+
+  private final List<Document> admins;
+  private final String passwordHash;
+
+  DocumentFactory(List<Document> admins, String passwordHash) {
+    this.admins = admins;
+    this.passwordHash = passwordHash;
+  }
+
+  Document admin(long number) {
+    Instant createdAt = CURRENT_TERM.opens.minus(Duration.ofDays(700));
+    return user(new ObjectId(), "admin" + number + "@corefellowship.columbia.edu",
+        "ADMIN", "ROLE_ADMIN", "Admin " + number, null, createdAt, createdAt);
+  }
+
+  /**
+   * A student user, their application and, if it reached the interview stage, its interview.
+   */
+  void student(SplittableRandom random, long number,
+               List<Document> users, List<Document> applications, List<Document> interviews) {
+    Term term = TERM.next(random);
+    boolean open = term == CURRENT_TERM;
+    String status = (open ? OPEN_STUDENT_STATUS : CLOSED_STUDENT_STATUS).next(random);
+    Instant submittedAt = term.submittedAt(random);
+    Instant registeredAt = submittedAt.minus(Duration.ofMinutes(5 + random.nextInt(60 * 24 * 14)));
+
+    String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    String fullName = first + " " + last;
+    // Columbia UNI style, unique per student number
+    String email = (first.charAt(0) + "" + last.charAt(0)).toLowerCase() + number + "@columbia.edu";
+
+    ObjectId userId = new ObjectId();
+    users.add(user(userId, email, "STUDENT", "ROLE_USER", fullName, null, registeredAt,
+        random.nextInt(10) < 7 ? submittedAt.plus(Duration.ofDays(random.nextInt(60))) : null));
+
+    ObjectId applicationId = new ObjectId();
+    boolean reviewed = !"submitted".equals(status);
+    Instant updatedAt = reviewed
+        ? submittedAt.plus(Duration.ofHours(24 + random.nextInt(24 * 45)))
+        : submittedAt;
+    Document admin = admins.get(random.nextInt(admins.size()));
+
+    String howDidYouHear = HOW_DID_YOU_HEAR.next(random);
+    boolean usCitizen = random.nextInt(100) < 78;
+    boolean previouslyApplied = !term.equals(TERMS.get(0)) && random.nextInt(100) < 15;
+
+    Document application = new Document("_id", applicationId)
+        .append("userId", userId.toHexString())
+        .append("fullName", fullName)
+        .append("pronouns", PRONOUNS.next(random))
+        .append("gradYear", GRAD_YEAR.next(random))
+        .append("school", SCHOOL.next(random))
+        .append("major", MAJOR.next(random))
+        .append("email", email)
+        .append("linkedinProfile", random.nextInt(100) < 80
+            ? "https://www.linkedin.com/in/" + first.toLowerCase() + "-" + last.toLowerCase() + "-" + number
+            : null)
+        .append("portfolioWebsite", random.nextInt(100) < 45
+            ? "https://github.com/" + first.toLowerCase() + last.toLowerCase() + number
+            : null)
+        .append("resumeUrl", random.nextInt(100) < 85
+            ? "resumes/" + userId.toHexString() + "/resume-" + userId.toHexString() + "-"
+                + submittedAt.toEpochMilli() + ".pdf"
+            : null)
+        .append("howDidYouHear", howDidYouHear)
+        .append("referralSource", "Word-of-mouth".equals(howDidYouHear) || "Previous Fellow".equals(howDidYouHear)
+            ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+            : null)
+        .append("rolePreferences", rolePreferences(random))
+        .append("startupsAndIndustries", TextGenerator.paragraph(random, 380, 0.55))
+        .append("contributionAndExperience", TextGenerator.paragraph(random, 650, 0.6))
+        .append("workMode", WORK_MODE.next(random))
+        .append("timeCommitment", TIME_COMMITMENT.next(random))
+        .append("isUSCitizen", usCitizen ? "Yes" : "No")
+        .append("workAuthorization", usCitizen ? null : WORK_AUTHORIZATION.next(random))
+        .append("additionalComments", random.nextInt(100) < 35 ? TextGenerator.paragraph(random, 140, 0.7) : null)
+        .append("previouslyApplied", previouslyApplied)
+        .append("previouslyParticipated", previouslyApplied && random.nextInt(100) < 20)
+        .append("hasUpcomingInternshipOffers", random.nextInt(100) < 22)
+        // Terms are assigned by admins; a few open-term applications are still unassigned
+        .append("term", open && !reviewed && random.nextInt(100) < 10 ? null : term.name)
+        .append("status", status)
+        .append("submittedAt", Date.from(submittedAt))
+        .append("updatedAt", Date.from(updatedAt))
+        .append("reviewedBy", reviewed ? admin.getString("fullName") : null)
+        .append("reviewNotes", reviewed && random.nextInt(100) < 60 ? TextGenerator.paragraph(random, 90, 0.6) : null)
+        .append("version", reviewed ? 1L + random.nextInt(3) : 0L)
+        .append("_class", STUDENT_CLASS);
+    applications.add(withoutNulls(application));
+
+    if (hasInterview(status, random)) {
+      interviews.add(withoutNulls(interview(random, applicationId, admin, status, submittedAt, updatedAt)));
+    }
+  }
+
+  /**
+   * A startup user and their intake form.
+   */
+  void startup(SplittableRandom random, long number, List<Document> users, List<Document> startups) {
+    Term term = TERM.next(random);
+    String status = (term == CURRENT_TERM ? OPEN_STARTUP_STATUS : CLOSED_STARTUP_STATUS).next(random);
+    Instant submittedAt = term.submittedAt(random);
+    Instant registeredAt = submittedAt.minus(Duration.ofMinutes(5 + random.nextInt(60 * 24 * 7)));
+
+    String companyName = COMPANY_PREFIXES[random.nextInt(COMPANY_PREFIXES.length)]
+        + COMPANY_SUFFIXES[random.nextInt(COMPANY_SUFFIXES.length)] + " " + number;
+    String domain = companyName.toLowerCase().replace(" ", "") + ".com";
+    String contactName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+        + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    String contactEmail = "founders@" + domain;
+
+    ObjectId userId = new ObjectId();
+    users.add(user(userId, contactEmail, "STARTUP", "ROLE_USER", null, companyName, registeredAt,
+        submittedAt.plus(Duration.ofDays(random.nextInt(90)))));
+
+    int interns = 1 + (int) Math.min(4, Math.floor(-Math.log(1.0 - random.nextDouble()) * 1.2));
+    List<Document> positions = new ArrayList<>();
+    int positionCount = 1 + random.nextInt(Math.min(interns, 3));
+    for (int i = 0; i < positionCount; i++) {
+      positions.add(position(random));
+    }
+
+    boolean reviewed = !"submitted".equals(status);
+    String willPay = YES_NO_OTHER.next(random);
+    Document admin = admins.get(random.nextInt(admins.size()));
+    String operatingMode = OPERATING_MODE.next(random);
+
+    Document startup = new Document("_id", new ObjectId())
+        .append("userId", userId.toHexString())
+        .append("companyName", companyName)
+        .append("website", "https://" + domain)
+        .append("industry", INDUSTRY.next(random))
+        .append("description", TextGenerator.paragraph(random, 450, 0.5))
+        .append("stage", STAGE.next(random))
+        .append("teamSize", TEAM_SIZE.next(random))
+        .append("foundedYear", String.valueOf(2015 + random.nextInt(11)))
+        .append("contactName", contactName)
+        .append("contactTitle", CONTACT_TITLE.next(random))
+        .append("contactEmail", contactEmail)
+        .append("contactPhone", "(212) 555-" + String.format("%04d", random.nextInt(10000)))
+        .append("operatingMode", operatingMode)
+        .append("timeZone", "Fully In Person".equals(operatingMode) ? null : TIME_ZONE.next(random))
+        .append("internsSupervisor", contactName + ", " + CONTACT_TITLE.next(random))
+        .append("hasHiredInternsPreviously", random.nextInt(100) < 45)
+        .append("numberOfInternsNeeded", interns)
+        .append("positions", positions)
+        .append("willPayInterns", willPay)
+        .append("payAmount", "Yes".equals(willPay) ? "$" + (18 + random.nextInt(18)) + "/hour" : null)
+        .append("lookingForPermanentIntern", YES_NO_OTHER.next(random))
+        .append("projectDescriptionUrl", random.nextInt(100) < 30 ? "https://" + domain + "/internships.pdf" : null)
+        .append("referralSource", random.nextInt(100) < 40 ? "Columbia Entrepreneurship" : null)
+        .append("commitmentAcknowledged", true)
+        .append("term", term.name)
+        .append("status", status)
+        .append("submittedAt", Date.from(submittedAt))
+        .append("updatedAt", Date.from(reviewed ? submittedAt.plus(Duration.ofDays(1 + random.nextInt(30))) : submittedAt))
+        .append("reviewedBy", reviewed ? admin.getString("fullName") : null)
+        .append("reviewNotes", reviewed && random.nextInt(100) < 40 ? TextGenerator.paragraph(random, 80, 0.6) : null)
+        .append("version", reviewed ? 1L : 0L)
+        .append("_class", STARTUP_CLASS);
+    startups.add(withoutNulls(startup));
+  }
+
+  private Document position(SplittableRandom random) {
+    String roleType = ROLE_TYPE.next(random);
+    String[] pool = switch (roleType) {
+      case "Technical" -> TECHNICAL_SKILLS;
+      case "Business" -> BUSINESS_SKILLS;
+      default -> CREATIVE_SKILLS;
+    };
+    int skills = 2 + random.nextInt(5);
+    List<String> requiredSkills = new ArrayList<>(skills);
+    int offset = random.nextInt(pool.length);
+    for (int i = 0; i < skills && i < pool.length; i++) {
+      requiredSkills.add(pool[(offset + i) % pool.length]);
+    }
+    return new Document("roleType", roleType)
+        .append("description", TextGenerator.paragraph(random, 300, 0.5))
+        .append("requiredSkills", requiredSkills)
+        .append("timeCommitment", POSITION_HOURS.next(random));
+  }
+
+  private Document interview(SplittableRandom random, ObjectId applicationId, Document admin,
+                             String status, Instant submittedAt, Instant updatedAt) {
+    // Finalists and accepted students interviewed better than the rest
+    double mean = switch (status) {
+      case "finalist", "accepted" -> 8.0;
+      case "rejected" -> 5.0;
+      default -> 6.5;
+    };
+    int technical = score(random, mean);
+    int communication = score(random, mean);
+    int motivation = score(random, mean);
+    int cultureFit = score(random, mean);
+    // Same weights as Interview.calculateOverallScore
+    double overall = Math.round((technical * 0.30 + communication * 0.25
+        + motivation * 0.25 + cultureFit * 0.20) * 100.0) / 100.0;
+    String recommendation = overall >= 8.0 ? "STRONG_YES"
+        : overall >= 6.5 ? "YES"
+        : overall >= 5.0 ? "MAYBE"
+        : "NO";
+
+    Instant interviewDate = submittedAt.plus(Duration.between(submittedAt, updatedAt).dividedBy(2));
+    return new Document("_id", new ObjectId())
+        .append("applicationId", applicationId.toHexString())
+        .append("interviewerId", admin.getObjectId("_id").toHexString())
+        .append("interviewerName", admin.getString("fullName"))
+        .append("interviewDate", Date.from(interviewDate))
+        .append("technicalScore", technical)
+        .append("communicationScore", communication)
+        .append("motivationScore", motivation)
+        .append("cultureFitScore", cultureFit)
+        .append("overallScore", overall)
+        .append("strengths", TextGenerator.paragraph(random, 160, 0.5))
+        .append("concerns", random.nextInt(100) < 70 ? TextGenerator.paragraph(random, 110, 0.6) : null)
+        .append("notes", random.nextInt(100) < 50 ? TextGenerator.paragraph(random, 200, 0.7) : null)
+        .append("recommendation", recommendation)
+        .append("createdAt", Date.from(interviewDate))
+        .append("updatedAt", Date.from(interviewDate.plus(Duration.ofHours(random.nextInt(48)))))
+        .append("version", 0L)
+        .append("_class", INTERVIEW_CLASS);
+  }
+
+  private Document user(ObjectId id, String email, String userType, String role, String fullName,
+                        String companyName, Instant createdAt, Instant lastLoginAt) {
+    return withoutNulls(new Document("_id", id)
+        .append("email", email)
+        .append("passwordHash", passwordHash)
+        .append("userType", userType)
+        .append("role", role)
+        .append("fullName", fullName)
+        .append("companyName", companyName)
+        .append("emailVerified", false)
+        .append("accountEnabled", true)
+        .append("accountLocked", false)
+        .append("createdAt", Date.from(createdAt))
+        .append("updatedAt", Date.from(lastLoginAt != null ? lastLoginAt : createdAt))
+        .append("lastLoginAt", lastLoginAt != null ? Date.from(lastLoginAt) : null)
+        .append("_class", USER_CLASS));
+  }
+
+  /**
+   * Spring Data leaves unset properties out of the document rather than storing null.
+   */
+  private static Document withoutNulls(Document document) {
+    document.values().removeIf(Objects::isNull);
+    return document;
+  }
+
+  private static boolean hasInterview(String status, SplittableRandom random) {
+    return switch (status) {
+      case "interviewed", "finalist", "accepted" -> true;
+      // Some rejections happen after the interview
+      case "rejected" -> random.nextInt(100) < 30;
+      default -> false;
+    };
+  }
+
+  private static List<String> rolePreferences(SplittableRandom random) {
+    List<String> roles = new ArrayList<>(3);
+    if (random.nextInt(100) < 25) {
+      roles.add("Creative");
+    }
+    if (random.nextInt(100) < 45) {
+      roles.add("Business");
+    }
+    if (roles.isEmpty() || random.nextInt(100) < 60) {
+      roles.add("Tech");
+    }
+    return roles;
+  }
+
+  private static int score(SplittableRandom random, double mean) {
+    return (int) Math.max(1, Math.min(10, Math.round(mean + 1.6 * random.nextGaussian())));
+  }
+
+  private static final class Term {
+
+    private final String name;
+    private final Instant opens;
+    private final long windowMillis;
+
+    private Term(String name, LocalDate opens, LocalDate closes) {
+      this.name = name;
+      this.opens = opens.atStartOfDay(ZoneOffset.UTC).toInstant();
+      this.windowMillis = Duration.between(this.opens, closes.atStartOfDay(ZoneOffset.UTC).toInstant()).toMillis();
+    }
+
+    /**
+     * Submissions bunch up towards the deadline: sqrt of a uniform skews late.
+     */
+    private Instant submittedAt(SplittableRandom random) {
+      return opens.plusMillis((long) (windowMillis * Math.sqrt(random.nextDouble())));
+    }
+  }
+}
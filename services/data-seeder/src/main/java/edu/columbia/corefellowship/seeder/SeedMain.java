@@ -0,0 +1,190 @@
+package edu.columbia.corefellowship.seeder;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fills the identity and applications databases with synthetic users, student applications,
+ * interviews and startups, for benchmarks and index/export work at realistic volumes.
+ *
+ * Each batch is generated and inserted by one worker with unordered insertMany calls, so
+ * generation and the round trips of all workers overlap. Documents are written without the
+ * services' indexes in the way when seed.drop=true; the services build them on next start
+ * (auto-index-creation).
+ *
+ * Run with ./gradlew :data-seeder:seed (see build.gradle.kts for options).
+ */
+public final class SeedMain {
+
+  private static final Logger log = LoggerFactory.getLogger(SeedMain.class);
+
+  private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+  // Keeps per-batch random streams apart; any odd 64-bit constant works
+  private static final long STREAM_STRIDE = 0x9E3779B97F4A7C15L;
+
+  private final SeedSettings settings;
+  private final LongAdder inserted = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  private SeedMain(SeedSettings settings) {
+    this.settings = settings;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new SeedMain(SeedSettings.fromSystemProperties()).run();
+  }
+
+  private void run() throws InterruptedException, ExecutionException {
+    // One hash for every user: hashing millions of passwords would take hours
+    String passwordHash = new BCryptPasswordEncoder(settings.getBcryptCost()).encode(settings.getPassword());
+
+    try (MongoClient client = MongoClients.create(settings.getMongoUri())) {
+      MongoDatabase identity = client.getDatabase(settings.getIdentityDatabase())
+          .withWriteConcern(WriteConcern.W1);
+      MongoDatabase applications = client.getDatabase(settings.getApplicationsDatabase())
+          .withWriteConcern(WriteConcern.W1);
+      MongoCollection<Document> users = identity.getCollection("users");
+      MongoCollection<Document> studentApplications = applications.getCollection("student_applications");
+      MongoCollection<Document> interviews = applications.getCollection("interviews");
+      MongoCollection<Document> startups = applications.getCollection("startups");
+
+      if (settings.isDrop()) {
+        log.info("Dropping users, student_applications, interviews and startups");
+        users.drop();
+        studentApplications.drop();
+        interviews.drop();
+        startups.drop();
+      }
+
+      // Numbering continues after existing users, so appending runs keep emails unique
+      long offset = users.estimatedDocumentCount();
+      List<Document> admins = admins(users, offset, passwordHash);
+      DocumentFactory factory = new DocumentFactory(admins, passwordHash);
+
+      log.info("Seeding {} students and {} startups in batches of {} on {} threads",
+          settings.getStudents(), settings.getStartups(), settings.getBatchSize(), settings.getThreads());
+
+      long start = System.nanoTime();
+      ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+      progress.scheduleAtFixedRate(() -> logProgress(start), 5, 5, TimeUnit.SECONDS);
+      ExecutorService workers = Executors.newFixedThreadPool(settings.getThreads());
+      try {
+        List<Future<?>> batches = new ArrayList<>();
+        int batchSize = settings.getBatchSize();
+
+        for (int from = 0; from < settings.getStudents(); from += batchSize) {
+          int batchFrom = from;
+          int batchTo = Math.min(from + batchSize, settings.getStudents());
+          batches.add(workers.submit(() -> {
+            SplittableRandom random = new SplittableRandom(settings.getRandomSeed() + batchFrom * STREAM_STRIDE);
+            List<Document> userBatch = new ArrayList<>(batchTo - batchFrom);
+            List<Document> applicationBatch = new ArrayList<>(batchTo - batchFrom);
+            List<Document> interviewBatch = new ArrayList<>();
+            for (int i = batchFrom; i < batchTo; i++) {
+              factory.student(random, offset + i, userBatch, applicationBatch, interviewBatch);
+            }
+            insert(users, userBatch);
+            insert(studentApplications, applicationBatch);
+            insert(interviews, interviewBatch);
+          }));
+        }
+
+        long startupOffset = offset + settings.getStudents();
+        for (int from = 0; from < settings.getStartups(); from += batchSize) {
+          int batchFrom = from;
+          int batchTo = Math.min(from + batchSize, settings.getStartups());
+          batches.add(workers.submit(() -> {
+            SplittableRandom random = new SplittableRandom(~settings.getRandomSeed() + batchFrom * STREAM_STRIDE);
+            List<Document> userBatch = new ArrayList<>(batchTo - batchFrom);
+            List<Document> startupBatch = new ArrayList<>(batchTo - batchFrom);
+            for (int i = batchFrom; i < batchTo; i++) {
+              factory.startup(random, startupOffset + i, userBatch, startupBatch);
+            }
+            insert(users, userBatch);
+            insert(startups, startupBatch);
+          }));
+        }
+
+        for (Future<?> batch : batches) {
+          batch.get();
+        }
+      } finally {
+        workers.shutdownNow();
+        progress.shutdownNow();
+      }
+
+      double seconds = (System.nanoTime() - start) / 1e9;
+      log.info("Inserted {} documents in {}s ({} docs/s), {} failed",
+          inserted.sum(), String.format("%.1f", seconds),
+          String.format("%.0f", inserted.sum() / seconds), failed.sum());
+      log.info("Every seeded user's password is '{}'", settings.getPassword());
+    }
+  }
+
+  /**
+   * Reuse the admins already in the database, creating the missing ones.
+   */
+  private List<Document> admins(MongoCollection<Document> users, long offset, String passwordHash) {
+    List<Document> admins = users.find(Filters.eq("role", "ROLE_ADMIN"))
+        .limit(settings.getAdmins())
+        .into(new ArrayList<>());
+
+    List<Document> created = new ArrayList<>();
+    DocumentFactory factory = new DocumentFactory(List.of(), passwordHash);
+    for (int i = admins.size(); i < settings.getAdmins(); i++) {
+      created.add(factory.admin(offset + i));
+    }
+    if (!created.isEmpty()) {
+      insert(users, created);
+      admins.addAll(created);
+    }
+    if (admins.isEmpty()) {
+      throw new IllegalArgumentException("seed.admins must be at least 1");
+    }
+    return admins;
+  }
+
+  private void insert(MongoCollection<Document> collection, List<Document> documents) {
+    if (documents.isEmpty()) {
+      return;
+    }
+    try {
+      collection.insertMany(documents, UNORDERED);
+      inserted.add(documents.size());
+    } catch (MongoBulkWriteException e) {
+      // Unordered: everything except the failed documents was written
+      int errors = e.getWriteErrors().size();
+      inserted.add(documents.size() - errors);
+      failed.add(errors);
+      log.warn("{} of {} inserts into {} failed, first: {}", errors, documents.size(),
+          collection.getNamespace().getCollectionName(), e.getWriteErrors().get(0).getMessage());
+    }
+  }
+
+  private void logProgress(long start) {
+    double seconds = (System.nanoTime() - start) / 1e9;
+    long count = inserted.sum();
+    log.info("{} documents inserted ({} docs/s)", count, String.format("%.0f", count / seconds));
+  }
+}
@@ -0,0 +1,56 @@
+package edu.columbia.corefellowship.seeder;
+
+import java.util.SplittableRandom;
+
+/**
+ * Filler prose for the free-text answers. Lengths are log-normal, like real answers:
+ * most are near the median, with a long tail of very long ones.
+ */
+public final class TextGenerator {
+
+  private static final String[] WORDS = (
+      "startup product team build built building users customers data platform mobile app "
+          + "web backend frontend design research market growth strategy experience project "
+          + "projects learn learning impact community climate health fintech education tools "
+          + "developer machine learning models analysis interested excited early stage founders "
+          + "fast paced environment ownership internship summer club hackathon course class "
+          + "professor lab python java react sql cloud marketing sales operations content "
+          + "creative storytelling brand video social media outreach partnerships problem "
+          + "solving collaboration communication leadership feedback iterate prototype launch "
+          + "the a and to of in for with on at from my our their I we this that which because")
+      .split(" ");
+
+  // Answers are capped by the form's textarea limits
+  private static final int MAX_LENGTH = 4000;
+
+  private TextGenerator() {
+  }
+
+  /**
+   * A paragraph whose length is log-normal around medianChars.
+   */
+  public static String paragraph(SplittableRandom random, int medianChars, double sigma) {
+    int length = (int) Math.min(MAX_LENGTH,
+        Math.max(12, medianChars * Math.exp(sigma * random.nextGaussian())));
+
+    StringBuilder text = new StringBuilder(length + 16);
+    boolean sentenceStart = true;
+    while (text.length() < length) {
+      String word = WORDS[random.nextInt(WORDS.length)];
+      if (sentenceStart) {
+        text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        sentenceStart = false;
+      } else {
+        text.append(word);
+      }
+      if (random.nextInt(12) == 0) {
+        text.append(". ");
+        sentenceStart = true;
+      } else {
+        text.append(random.nextInt(15) == 0 ? ", " : " ");
+      }
+    }
+    text.setLength(length);
+    return text.toString().strip() + ".";
+  }
+}
@@ -0,0 +1,47 @@
+package edu.columbia.corefellowship.seeder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A categorical distribution: values drawn in proportion to their weights.
+ */
+public final class Weighted<T> {
+
+  private final List<T> values = new ArrayList<>();
+  private double[] cumulative = new double[0];
+  private double total;
+
+  private Weighted() {
+  }
+
+  public static <T> Weighted<T> of() {
+    return new Weighted<>();
+  }
+
+  public Weighted<T> add(T value, double weight) {
+    values.add(value);
+    total += weight;
+    double[] next = new double[cumulative.length + 1];
+    System.arraycopy(cumulative, 0, next, 0, cumulative.length);
+    next[cumulative.length] = total;
+    cumulative = next;
+    return this;
+  }
+
+  public T next(SplittableRandom random) {
+    double point = random.nextDouble() * total;
+    int low = 0;
+    int high = cumulative.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cumulative[mid] <= point) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return values.get(low);
+  }
+}
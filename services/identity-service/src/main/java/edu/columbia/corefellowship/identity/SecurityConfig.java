@@ -1,5 +1,8 @@
 package edu.columbia.corefellowship.identity;
 
+import edu.columbia.corefellowship.identity.config.PasswordHashingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,12 +23,17 @@ import java.util.Arrays;
 @EnableWebSecurity
 public class SecurityConfig {
 
+  private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
     http
       .cors(cors -> cors.configurationSource(corsConfigurationSource()))
       .authorizeHttpRequests(auth -> auth
         .requestMatchers(new AntPathRequestMatcher("/health")).permitAll()
+        // Scrape endpoints live on the management port only
+        .requestMatchers(new AntPathRequestMatcher("/actuator/health/**")).permitAll()
+        .requestMatchers(new AntPathRequestMatcher("/actuator/prometheus")).permitAll()
         .requestMatchers(new AntPathRequestMatcher("/api/auth/**")).permitAll()
         .requestMatchers(new AntPathRequestMatcher("/error")).permitAll()
         .anyRequest().authenticated()
@@ -35,13 +43,13 @@ public class SecurityConfig {
       )
       .exceptionHandling(ex -> ex
         .authenticationEntryPoint((req, res, e) -> {
-          System.out.println(">>> IDENTITY ENTRYPOINT (401) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Entrypoint (401) {}: {}", e.getClass().getName(), e.getMessage());
           res.addHeader("X-Security-Error", "identity-entrypoint");
           res.addHeader("X-Security-Error-Class", e.getClass().getName());
           res.sendError(HttpServletResponse.SC_UNAUTHORIZED);
         })
         .accessDeniedHandler((req, res, e) -> {
-          System.out.println(">>> IDENTITY ACCESS DENIED (403) " + e.getClass().getName() + ": " + e.getMessage());
+          log.debug("Access denied (403) {}: {}", e.getClass().getName(), e.getMessage());
           res.addHeader("X-Security-Error", "identity-access-denied");
           res.addHeader("X-Security-Error-Class", e.getClass().getName());
           res.sendError(HttpServletResponse.SC_FORBIDDEN);
@@ -76,7 +84,7 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+    return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptCost());
   }
 }
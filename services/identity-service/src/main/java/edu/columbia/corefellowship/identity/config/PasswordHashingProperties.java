@@ -0,0 +1,65 @@
+package edu.columbia.corefellowship.identity.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+  // Run BCrypt for requests on the hashing pool; false hashes inline on the request thread
+  private Boolean offload = true;
+
+  // BCrypt log2 cost; stored hashes with a different cost are re-hashed on next login
+  private Integer bcryptCost = 12;
+
+  // Threads dedicated to BCrypt work (defaults to the number of CPUs)
+  private Integer poolSize = Runtime.getRuntime().availableProcessors();
+
+  // Hash requests allowed to wait for a thread before new ones are rejected with 503
+  private Integer queueCapacity = 64;
+
+  // Background re-hashes allowed to wait for the single re-hash thread; more are dropped
+  private Integer rehashQueueCapacity = 16;
+
+  // Getters and Setters
+  public Boolean getOffload() {
+    return offload;
+  }
+
+  public void setOffload(Boolean offload) {
+    this.offload = offload;
+  }
+
+  public Integer getBcryptCost() {
+    return bcryptCost;
+  }
+
+  public void setBcryptCost(Integer bcryptCost) {
+    this.bcryptCost = bcryptCost;
+  }
+
+  public Integer getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(Integer poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public Integer getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(Integer queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public Integer getRehashQueueCapacity() {
+    return rehashQueueCapacity;
+  }
+
+  public void setRehashQueueCapacity(Integer rehashQueueCapacity) {
+    this.rehashQueueCapacity = rehashQueueCapacity;
+  }
+}
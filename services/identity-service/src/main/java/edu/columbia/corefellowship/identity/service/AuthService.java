@@ -10,8 +10,11 @@ import edu.columbia.corefellowship.identity.model.UserRole;
 import edu.columbia.corefellowship.identity.repository.UserRepository;
 import edu.columbia.corefellowship.identity.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -21,21 +24,27 @@ import java.time.Instant;
 public class AuthService {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashing;
   private final JwtUtil jwtUtil;
   private final JwtProperties jwtProperties;
+  private final MongoTemplate mongoTemplate;
+  private final LastLoginRecorder lastLoginRecorder;
 
   @Value("${admin.registration-token}")
   private String adminRegistrationToken;
 
   public AuthService(UserRepository userRepository,
-                    PasswordEncoder passwordEncoder,
+                    PasswordHashingService passwordHashing,
                     JwtUtil jwtUtil,
-                    JwtProperties jwtProperties) {
+                    JwtProperties jwtProperties,
+                    MongoTemplate mongoTemplate,
+                    LastLoginRecorder lastLoginRecorder) {
     this.userRepository = userRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHashing = passwordHashing;
     this.jwtUtil = jwtUtil;
     this.jwtProperties = jwtProperties;
+    this.mongoTemplate = mongoTemplate;
+    this.lastLoginRecorder = lastLoginRecorder;
   }
 
   /**
@@ -64,7 +73,7 @@ public class AuthService {
     // Create new user
     User user = new User();
     user.setEmail(normalizedEmail);
-    user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+    user.setPasswordHash(passwordHashing.hash(request.getPassword()));
     user.setUserType(request.getUserType());
 
     // Set role based on admin token validation
@@ -104,7 +113,7 @@ public class AuthService {
             "Invalid email or password"));
 
     // Verify password
-    if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+    if (!passwordHashing.matches(request.getPassword(), user.getPasswordHash())) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,
           "Invalid email or password");
     }
@@ -120,9 +129,20 @@ public class AuthService {
           "Account is locked");
     }
 
-    // Update last login
-    user.setLastLoginAt(Instant.now());
-    userRepository.save(user);
+    // Update last login - buffered and written in bulk, off the request path
+    Instant now = Instant.now();
+    user.setLastLoginAt(now);
+    lastLoginRecorder.record(user.getId(), now);
+
+    // Transparently move the stored hash to the configured BCrypt cost
+    if (passwordHashing.needsRehash(user.getPasswordHash())) {
+      String userId = user.getId();
+      passwordHashing.rehashInBackground(request.getPassword(), newHash ->
+          mongoTemplate.updateFirst(
+              Query.query(Criteria.where("id").is(userId)),
+              Update.update("passwordHash", newHash).set("updatedAt", Instant.now()),
+              User.class));
+    }
 
     // Generate JWT
     String token = jwtUtil.generateToken(user);
@@ -0,0 +1,169 @@
+package edu.columbia.corefellowship.identity.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import edu.columbia.corefellowship.identity.model.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for users' lastLoginAt.
+ *
+ * Logins only record the timestamp in memory. Pending timestamps are coalesced per user
+ * and flushed as one unordered bulk of $set updates every flushIntervalMs, as soon as
+ * maxBatch users are pending, and once more on shutdown. Login latency is therefore
+ * bounded by the credential check, not by a Mongo write. Updates a flush could not write
+ * go back into the buffer for the next one, unless a newer login was recorded meanwhile.
+ */
+@Service
+public class LastLoginRecorder {
+
+  private static final Logger log = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+  private final MongoTemplate mongoTemplate;
+  private final int maxBatch;
+  private final Map<String, Instant> pending = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  // Held across the bulk write, so a lock rather than synchronized (which pins virtual threads)
+  private final Lock flushLock = new ReentrantLock();
+  private final ScheduledExecutorService flusher;
+
+  public LastLoginRecorder(
+      MongoTemplate mongoTemplate,
+      @Value("${last-login.flush-interval-ms:1000}") long flushIntervalMs,
+      @Value("${last-login.max-batch:500}") int maxBatch) {
+    this.mongoTemplate = mongoTemplate;
+    this.maxBatch = maxBatch;
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "last-login-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Record a login. Repeated logins by the same user before a flush collapse into one write.
+   */
+  public void record(String userId, Instant loginAt) {
+    pending.merge(userId, loginAt, LastLoginRecorder::latest);
+
+    if (pending.size() >= maxBatch && flushScheduled.compareAndSet(false, true)) {
+      try {
+        flusher.execute(() -> {
+          flushScheduled.set(false);
+          flushQuietly();
+        });
+      } catch (RejectedExecutionException e) {
+        // Shutting down; the final flush in shutdown() writes it
+        flushScheduled.set(false);
+      }
+    }
+  }
+
+  /**
+   * Write all pending timestamps to Mongo in a single bulk operation. If the write fails,
+   * the updates that were not applied are pending again and the exception is rethrown.
+   *
+   * @return number of users written
+   */
+  public int flush() {
+    flushLock.lock();
+    try {
+      return flushPending();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private int flushPending() {
+    if (pending.isEmpty()) {
+      return 0;
+    }
+
+    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+    List<Map.Entry<String, Instant>> batch = new ArrayList<>();
+    for (String userId : new ArrayList<>(pending.keySet())) {
+      Instant loginAt = pending.remove(userId);
+      if (loginAt != null) {
+        bulk.updateOne(Query.query(Criteria.where("id").is(userId)), Update.update("lastLoginAt", loginAt));
+        batch.add(Map.entry(userId, loginAt));
+      }
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      bulk.execute();
+    } catch (BulkOperationException e) {
+      // Unordered, so every update without an error was applied
+      for (BulkWriteError error : e.getErrors()) {
+        requeue(batch.get(error.getIndex()));
+      }
+      throw e;
+    } catch (RuntimeException e) {
+      batch.forEach(this::requeue);
+      throw e;
+    }
+    return batch.size();
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // Final flush so logins right before shutdown are not lost
+    flushQuietly();
+    if (!pending.isEmpty()) {
+      log.warn("Shutting down with {} last-login timestamps unwritten", pending.size());
+    }
+  }
+
+  private void requeue(Map.Entry<String, Instant> update) {
+    // A login recorded since the batch was taken is newer and wins
+    pending.merge(update.getKey(), update.getValue(), LastLoginRecorder::latest);
+  }
+
+  private static Instant latest(Instant current, Instant next) {
+    return next.isAfter(current) ? next : current;
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // Unwritten timestamps are pending again and go out with the next flush
+      log.warn("Failed to flush last-login timestamps: {}", e.getMessage());
+    }
+  }
+}
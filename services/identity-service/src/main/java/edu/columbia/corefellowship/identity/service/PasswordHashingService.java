@@ -0,0 +1,188 @@
+package edu.columbia.corefellowship.identity.service;
+
+import edu.columbia.corefellowship.identity.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, bounded thread pool.
+ *
+ * A burst of logins can only occupy poolSize CPUs with BCrypt work; once queueCapacity
+ * requests are waiting, further ones fail fast with 503 instead of piling up on Tomcat
+ * threads, so /health and non-auth traffic keep being served. The request thread still
+ * waits for its result; what the pool bounds is how many of them run BCrypt at once. With
+ * spring.threads.virtual.enabled the wait unmounts the virtual thread instead of holding a
+ * carrier.
+ *
+ * password-hashing.offload=false hashes inline on the request thread instead, with no bound
+ * and no 503, as before the pool existed; it is there for the load test baseline.
+ *
+ * Cost upgrades of stored hashes are not user-facing and run on a separate single,
+ * minimum-priority thread, so they never take a pool slot or queue position from a login.
+ */
+@Service
+public class PasswordHashingService {
+
+  private final PasswordEncoder passwordEncoder;
+  private final int bcryptCost;
+  private final boolean offload;
+  private final ThreadPoolExecutor executor;
+  private final ThreadPoolExecutor rehashExecutor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+
+  public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                PasswordHashingProperties properties,
+                                MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.bcryptCost = properties.getBcryptCost();
+    this.offload = properties.getOffload();
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        properties.getPoolSize(),
+        properties.getPoolSize(),
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    this.rehashExecutor = new ThreadPoolExecutor(
+        1, 1,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getRehashQueueCapacity()),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-rehash");
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    // BCrypt time on the pool thread; queueing shows up as the gap to the login latency
+    this.encodeTimer = Timer.builder("identity.password.bcrypt")
+        .tag("operation", "encode")
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("identity.password.bcrypt")
+        .tag("operation", "matches")
+        .register(meterRegistry);
+    Gauge.builder("identity.password.queue.depth", executor, pool -> pool.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("identity.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Hash a raw password at the configured cost.
+   */
+  public String hash(String rawPassword) {
+    return await(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+  }
+
+  /**
+   * Check a raw password against a stored hash.
+   */
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return await(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+  }
+
+  /**
+   * Whether a stored hash was produced with a cost other than the configured one.
+   */
+  public boolean needsRehash(String encodedPassword) {
+    // BCrypt format: $2a$<cost>$<salt+hash>
+    if (encodedPassword == null || encodedPassword.length() < 7
+        || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+      return false;
+    }
+    try {
+      int cost = Integer.parseInt(encodedPassword.substring(4, 6));
+      return cost != bcryptCost;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Re-hash a password at the configured cost in the background.
+   *
+   * The upgrade is best effort: it is dropped while logins are queueing for the hashing
+   * pool or when the re-hash backlog is full, and retried on a later login, so it never
+   * adds latency or errors to the login itself.
+   */
+  public void rehashInBackground(String rawPassword, Consumer<String> onHashed) {
+    if (!executor.getQueue().isEmpty()) {
+      // Logins are waiting for BCrypt - leave the CPU to them
+      return;
+    }
+    try {
+      rehashExecutor.execute(() -> onHashed.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+    } catch (RejectedExecutionException e) {
+      // Backlog full - try again on the next login
+    }
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+    rehashExecutor.shutdown();
+  }
+
+  private <T> T await(Supplier<T> task) {
+    if (!offload) {
+      return task.get();
+    }
+
+    Future<T> future;
+    try {
+      future = executor.submit(task::get);
+    } catch (RejectedExecutionException e) {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Authentication is busy, please retry shortly");
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Authentication was interrupted");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Password hashing failed", cause);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package edu.columbia.corefellowship.identity.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import edu.columbia.corefellowship.identity.model.User;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Flushes against a mocked bulk: what each flush sends, and what stays pending when the
+ * write fails.
+ */
+class LastLoginRecorderTest {
+
+  private static final Instant T1 = Instant.parse("2025-01-01T10:00:00Z");
+  private static final Instant T2 = Instant.parse("2025-01-01T11:00:00Z");
+
+  private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+  // What each bulk sends, by user id, in the order the updates were queued
+  private final Map<String, Instant> sent = new LinkedHashMap<>();
+  private Supplier<RuntimeException> failNextExecute;
+  private LastLoginRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)).thenAnswer(invocation -> newBulk());
+    // Long interval and batch, so only the test flushes
+    recorder = new LastLoginRecorder(mongoTemplate, 3_600_000, 1_000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    recorder.shutdown();
+  }
+
+  @Test
+  void flushWritesTheLatestLoginPerUserOnce() {
+    recorder.record("u1", T2);
+    recorder.record("u1", T1);
+    recorder.record("u2", T1);
+
+    assertThat(recorder.flush()).isEqualTo(2);
+    assertThat(sent).isEqualTo(Map.of("u1", T2, "u2", T1));
+    assertThat(recorder.getPendingCount()).isZero();
+    assertThat(recorder.flush()).isZero();
+  }
+
+  @Test
+  void failedFlushKeepsTheBatchPendingAndNewerLoginsWin() {
+    recorder.record("u1", T1);
+    recorder.record("u2", T1);
+    failNextExecute = () -> {
+      // A login that lands while the bulk is in flight
+      recorder.record("u2", T2);
+      return new DataAccessResourceFailureException("mongo down");
+    };
+
+    assertThatThrownBy(recorder::flush).isInstanceOf(DataAccessResourceFailureException.class);
+    assertThat(recorder.getPendingCount()).isEqualTo(2);
+
+    sent.clear();
+    assertThat(recorder.flush()).isEqualTo(2);
+    assertThat(sent).isEqualTo(Map.of("u1", T1, "u2", T2));
+  }
+
+  @Test
+  void partiallyFailedFlushKeepsOnlyTheFailedUpdates() {
+    recorder.record("u1", T1);
+    recorder.record("u2", T1);
+    recorder.record("u3", T1);
+    // Error indexes refer to the order the updates were queued in
+    failNextExecute = () -> bulkFailure(List.copyOf(sent.keySet()).indexOf("u2"));
+
+    assertThatThrownBy(recorder::flush).isInstanceOf(BulkOperationException.class);
+    assertThat(recorder.getPendingCount()).isEqualTo(1);
+
+    sent.clear();
+    assertThat(recorder.flush()).isEqualTo(1);
+    assertThat(sent).isEqualTo(Map.of("u2", T1));
+  }
+
+  @Test
+  void shutdownDrainsWhatIsPending() {
+    recorder.record("u1", T1);
+    recorder.record("u2", T2);
+
+    recorder.shutdown();
+
+    assertThat(sent).isEqualTo(Map.of("u1", T1, "u2", T2));
+    assertThat(recorder.getPendingCount()).isZero();
+  }
+
+  @Test
+  void recordingAfterShutdownDoesNotFail() {
+    recorder.shutdown();
+    // A batch of one tries to schedule a flush on every login
+    recorder = new LastLoginRecorder(mongoTemplate, 3_600_000, 1);
+    recorder.shutdown();
+
+    recorder.record("u1", T1);
+
+    assertThat(recorder.getPendingCount()).isEqualTo(1);
+  }
+
+  /**
+   * A bulk that records its updates in sent and fails its execute() if failNextExecute is set.
+   */
+  private BulkOperations newBulk() {
+    BulkOperations bulk = mock(BulkOperations.class, RETURNS_SELF);
+    Answer<BulkOperations> record = invocation -> {
+      Query query = invocation.getArgument(0);
+      UpdateDefinition update = invocation.getArgument(1);
+      sent.put(query.getQueryObject().getString("id"),
+          (Instant) update.getUpdateObject().get("$set", Document.class).get("lastLoginAt"));
+      return bulk;
+    };
+    // Both overloads, the Update one being a default method the mock would not delegate
+    when(bulk.updateOne(any(Query.class), any(Update.class))).thenAnswer(record);
+    when(bulk.updateOne(any(Query.class), any(UpdateDefinition.class))).thenAnswer(record);
+    when(bulk.execute()).thenAnswer(invocation -> {
+      Supplier<RuntimeException> failure = failNextExecute;
+      failNextExecute = null;
+      if (failure != null) {
+        throw failure.get();
+      }
+      return null;
+    });
+    return bulk;
+  }
+
+  private static BulkOperationException bulkFailure(int index) {
+    BulkWriteError error = new BulkWriteError(11000, "duplicate key", new BsonDocument(), index);
+    return new BulkOperationException("bulk write failed", new MongoBulkWriteException(
+        mock(BulkWriteResult.class), List.of(error), null, new ServerAddress(), Set.of()));
+  }
+}
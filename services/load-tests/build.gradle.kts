@@ -0,0 +1,63 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    id("io.spring.dependency-management")
+    java
+}
+
+// Same dependency versions as the services under test
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    implementation(project(":data-seeder")) // Fills Mongo for the export benchmark
+    implementation("de.flapdoodle.embed:de.flapdoodle.embed.mongo:4.16.1") // Mongo when no URI is given
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("org.slf4j:slf4j-simple")
+}
+
+val services = listOf("api-gateway", "identity-service", "applications-service")
+
+// ./gradlew :load-tests:loadTest                                         - every scenario, 30s each
+// ./gradlew :load-tests:loadTest -Ploadtest.scenarios=auth-storm         - one scenario
+// ./gradlew :load-tests:loadTest -Ploadtest.concurrency=1000,5000 -Ploadtest.virtualThreads=false
+// ./gradlew :load-tests:loadTest -Ploadtest.scenarios=auth-storm -Ploadtest.passwordHashOffload=false - hashing baseline
+// Any -Ploadtest.* property is passed to the runner; see LoadTestSettings for the full list.
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the three services against a local Mongo and drives them through the gateway."
+    mainClass.set("edu.columbia.corefellowship.loadtest.LoadTestMain")
+    serviceRunner()
+}
+
+// ./gradlew :load-tests:exportBenchmark                                  - 10k, 100k and 1M applications
+// ./gradlew :load-tests:exportBenchmark -Ploadtest.exportSizes=1000000,5000000 -Ploadtest.exportHeap=128m
+// Seeds with the data seeder, then reports time to first byte and peak heap per export,
+// plain and gzip (the gzip runs include the export cache capture).
+// loadtest.mongoUri, if given, must be a throwaway server: its databases are replaced.
+tasks.register<JavaExec>("exportBenchmark") {
+    group = "verification"
+    description = "Measures time to first byte and peak heap of the streaming exports at growing sizes."
+    mainClass.set("edu.columbia.corefellowship.loadtest.ExportBenchmarkMain")
+    serviceRunner()
+}
+
+fun JavaExec.serviceRunner() {
+    dependsOn(services.map { ":$it:bootJar" })
+
+    classpath = sourceSets.main.get().runtimeClasspath
+
+    val servicesDir = rootDir
+    val jarVersion = version.toString()
+    systemProperty("loadtest.outputDir", layout.buildDirectory.dir("results/loadtest").get().asFile.path)
+    services.forEach { service ->
+        systemProperty("loadtest.jar.$service", "$servicesDir/$service/build/libs/$service-$jarVersion.jar")
+    }
+    providers.gradlePropertiesPrefixedBy("loadtest.").get().forEach { (key, value) ->
+        systemProperty(key, value)
+    }
+}
@@ -0,0 +1,36 @@
+package edu.columbia.corefellowship.loadtest;
+
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+
+/**
+ * A throwaway mongod for one load test run; the binary is downloaded and cached on first use.
+ */
+public final class EmbeddedMongo implements AutoCloseable {
+
+  private final TransitionWalker.ReachedState<RunningMongodProcess> running;
+
+  private EmbeddedMongo(TransitionWalker.ReachedState<RunningMongodProcess> running) {
+    this.running = running;
+  }
+
+  public static EmbeddedMongo start() {
+    return new EmbeddedMongo(Mongod.instance().start(Version.Main.V7_0));
+  }
+
+  /**
+   * Base connection URI, without a database.
+   */
+  public String getUri() {
+    ServerAddress address = running.current().getServerAddress();
+    return "mongodb://" + address.getHost() + ":" + address.getPort();
+  }
+
+  @Override
+  public void close() {
+    running.close();
+  }
+}
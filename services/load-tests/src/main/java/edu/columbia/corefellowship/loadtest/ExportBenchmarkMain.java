@@ -0,0 +1,245 @@
+package edu.columbia.corefellowship.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.columbia.corefellowship.seeder.SeedMain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time to first byte, total time and peak heap of the streaming student exports at growing
+ * collection sizes (10k, 100k and 1M applications by default).
+ *
+ * The collections are filled by the data seeder, appending up to each size in turn, and
+ * applications-service runs alone with a fixed small heap (loadtest.exportHeap). Every export
+ * is requested from it directly twice: plain, and with gzip, where the export cache keeps a
+ * copy of the compressed body while it streams. The cache TTL is zero for the benchmark, so
+ * each gzip request is a miss that builds and captures the body rather than a cache hit.
+ * Heap use is sampled from its Prometheus endpoint while each export runs: with rows
+ * streamed from a cursor the peak should stay flat as the collection grows, and with gzip
+ * it should only rise by the capture, which stops at export-cache.max-entry-size. Time to
+ * first byte stays constant and only the total time scales.
+ *
+ * Run with ./gradlew :load-tests:exportBenchmark (see build.gradle.kts for options).
+ */
+public final class ExportBenchmarkMain {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportBenchmarkMain.class);
+
+  private static final List<String> EXPORTS = List.of(
+      "/v1/export/students.csv",
+      "/v1/export/students.json",
+      "/v1/export/students.ndjson");
+  private static final Duration HEAP_SAMPLE_INTERVAL = Duration.ofMillis(20);
+  private static final String HEAP_METRIC = "jvm_memory_used_bytes{";
+  private static final double MB = 1024 * 1024;
+
+  private final LoadTestSettings settings;
+  private final HttpClient http = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+  private final List<Map<String, Object>> rows = new ArrayList<>();
+
+  private ExportBenchmarkMain(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new ExportBenchmarkMain(LoadTestSettings.fromSystemProperties()).run();
+  }
+
+  private void run() throws Exception {
+    List<Integer> sizes = settings.getExportSizes().stream().sorted().toList();
+
+    EmbeddedMongo embedded = settings.getMongoUri().isBlank() ? EmbeddedMongo.start() : null;
+    String mongoUri = embedded != null ? embedded.getUri() : settings.getMongoUri();
+    try {
+      // The first size replaces whatever the databases held, so every size is exact
+      seed(mongoUri, sizes.get(0), true);
+      try (ServiceCluster cluster = ServiceCluster.startApplications(
+          settings, mongoUri, "-Xmx" + settings.getExportHeap())) {
+        int seeded = sizes.get(0);
+        for (int size : sizes) {
+          seed(mongoUri, size - seeded, false);
+          seeded = size;
+          for (String export : EXPORTS) {
+            measure(cluster, size, export, false);
+            measure(cluster, size, export, true);
+          }
+        }
+      }
+    } finally {
+      if (embedded != null) {
+        embedded.close();
+      }
+    }
+
+    print(System.out);
+    Files.createDirectories(settings.getOutputDir());
+    Path file = settings.getOutputDir().resolve("export-results.json");
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("serviceHeap", settings.getExportHeap());
+    document.put("results", rows);
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+    log.info("Results written to {}", file);
+  }
+
+  /**
+   * Append student applications (and the seeder's share of startups and users) with the
+   * data seeder, which reads its options from seed.* system properties.
+   */
+  private static void seed(String mongoUri, int students, boolean drop) throws Exception {
+    if (students <= 0) {
+      return;
+    }
+    System.setProperty("seed.mongoUri", mongoUri);
+    System.setProperty("seed.students", String.valueOf(students));
+    System.setProperty("seed.drop", String.valueOf(drop));
+    // Every seeded user shares one hash; no reason to pay for a production cost here
+    System.setProperty("seed.bcryptCost", "4");
+    SeedMain.main(new String[0]);
+  }
+
+  private void measure(ServiceCluster cluster, int size, String export, boolean gzip)
+      throws IOException, InterruptedException {
+    String encoding = gzip ? "gzip" : "identity";
+    // The client never decompresses, so the body is read as sent
+    HttpRequest request = HttpRequest.newBuilder(cluster.getApplicationsUri().resolve(export))
+        .timeout(Duration.ofMinutes(10))
+        .header("X-User-Id", "export-benchmark")
+        .header("X-User-Role", "ROLE_ADMIN")
+        .header("X-User-Email", "export-benchmark@columbia.edu")
+        .header("Accept-Encoding", encoding)
+        .GET()
+        .build();
+    URI prometheus = cluster.getApplicationsManagementUri().resolve("prometheus");
+
+    long[] ttfb = new long[settings.getExportRuns()];
+    long[] total = new long[settings.getExportRuns()];
+    long bytes = 0;
+    long baseline = Long.MAX_VALUE;
+    long peak = 0;
+    for (int run = 0; run < settings.getExportRuns(); run++) {
+      baseline = Math.min(baseline, heapUsed(prometheus));
+      HeapSampler sampler = new HeapSampler(prometheus);
+      sampler.start();
+      try {
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+          throw new IllegalStateException("GET " + export + " returned " + response.statusCode());
+        }
+        try (InputStream body = response.body()) {
+          // Headers can be sent before any row; the first body byte is what a client waits for
+          long read = body.read() < 0 ? 0 : 1;
+          ttfb[run] = System.nanoTime() - start;
+          read += body.transferTo(OutputStream.nullOutputStream());
+          total[run] = System.nanoTime() - start;
+          bytes = read;
+        }
+      } finally {
+        sampler.interrupt();
+        sampler.join();
+      }
+      peak = Math.max(peak, sampler.peak.get());
+    }
+
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("applications", size);
+    row.put("export", export);
+    row.put("encoding", encoding);
+    row.put("bytes", bytes);
+    row.put("ttfbMs", median(ttfb) / 1e6);
+    row.put("totalMs", median(total) / 1e6);
+    row.put("baselineHeapMb", baseline / MB);
+    row.put("peakHeapMb", peak / MB);
+    rows.add(row);
+    log.info("{} ({}) at {} applications: first byte after {} ms, {} MB in {} ms, heap peak {} MB",
+        export, encoding, size, String.format("%.1f", median(ttfb) / 1e6), String.format("%.1f", bytes / MB),
+        String.format("%.0f", median(total) / 1e6), String.format("%.1f", peak / MB));
+  }
+
+  private void print(PrintStream out) {
+    String format = "%-28s %-9s %12s %10s %10s %10s %12s %12s%n";
+    out.printf("%nService heap: -Xmx%s%n", settings.getExportHeap());
+    out.printf(format, "export", "encoding", "applications", "MB", "ttfb ms", "total ms",
+        "heap base MB", "heap peak MB");
+    for (Map<String, Object> row : rows) {
+      out.printf(format, row.get("export"), row.get("encoding"), row.get("applications"),
+          String.format("%.1f", ((Long) row.get("bytes")) / MB),
+          String.format("%.1f", (Double) row.get("ttfbMs")),
+          String.format("%.0f", (Double) row.get("totalMs")),
+          String.format("%.1f", (Double) row.get("baselineHeapMb")),
+          String.format("%.1f", (Double) row.get("peakHeapMb")));
+    }
+  }
+
+  /**
+   * Heap in use across all heap pools, summed from jvm_memory_used_bytes{area="heap"}.
+   */
+  private long heapUsed(URI prometheus) throws IOException, InterruptedException {
+    HttpResponse<String> response = http.send(HttpRequest.newBuilder(prometheus).build(),
+        HttpResponse.BodyHandlers.ofString());
+    long used = 0;
+    for (String line : response.body().split("\n")) {
+      if (line.startsWith(HEAP_METRIC) && line.contains("area=\"heap\"")) {
+        used += (long) Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+      }
+    }
+    return used;
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  /**
+   * Polls the service's heap use until interrupted and keeps the highest value seen.
+   */
+  private final class HeapSampler extends Thread {
+
+    private final URI prometheus;
+    private final AtomicLong peak = new AtomicLong();
+
+    private HeapSampler(URI prometheus) {
+      super("heap-sampler");
+      this.prometheus = prometheus;
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!isInterrupted()) {
+          peak.accumulateAndGet(heapUsed(prometheus), Math::max);
+          Thread.sleep(HEAP_SAMPLE_INTERVAL.toMillis());
+        }
+      } catch (IOException e) {
+        log.warn("Heap sampling stopped: {}", e.getMessage());
+      } catch (InterruptedException e) {
+        // Export finished
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package edu.columbia.corefellowship.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * HTTP client for the gateway that records the latency of every call under a route label
+ * (method + path template), so /applications/{id} calls aggregate into one row.
+ *
+ * Transport failures and non-2xx responses both count as errors; neither throws.
+ */
+public final class GatewayClient {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+  private final HttpClient http;
+  private final URI baseUri;
+  private final LatencyRecorder recorder;
+
+  private GatewayClient(HttpClient http, URI baseUri, LatencyRecorder recorder) {
+    this.http = http;
+    this.baseUri = baseUri;
+    this.recorder = recorder;
+  }
+
+  public static GatewayClient create(URI baseUri) {
+    HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    return new GatewayClient(http, baseUri, new LatencyRecorder());
+  }
+
+  /**
+   * Same connections, different recorder; used to separate warmup and setup from measurement.
+   */
+  public GatewayClient recordingTo(LatencyRecorder recorder) {
+    return new GatewayClient(http, baseUri, recorder);
+  }
+
+  public HttpRequest.Builder request(String pathAndQuery, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+        .timeout(REQUEST_TIMEOUT);
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+
+  public static HttpRequest.BodyPublisher json(Object body) {
+    try {
+      return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Send a request and parse the JSON response; returns null on any failure.
+   */
+  public JsonNode sendJson(String route, HttpRequest request) {
+    HttpResponse<byte[]> response = send(route, request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response == null || !isSuccess(response.statusCode())) {
+      return null;
+    }
+    try {
+      return MAPPER.readTree(response.body());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Send a request, reading and dropping the body; returns whether it succeeded.
+   * The timing includes the whole body, which is what matters for exports.
+   */
+  public boolean sendDiscarding(String route, HttpRequest request) {
+    HttpResponse<Void> response = send(route, request, HttpResponse.BodyHandlers.discarding());
+    return response != null && isSuccess(response.statusCode());
+  }
+
+  public <T> HttpResponse<T> send(String route, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+    long start = System.nanoTime();
+    try {
+      HttpResponse<T> response = http.send(request, handler);
+      recorder.record(route, System.nanoTime() - start, !isSuccess(response.statusCode()));
+      return response;
+    } catch (IOException e) {
+      recorder.record(route, System.nanoTime() - start, true);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  private static boolean isSuccess(int status) {
+    return status >= 200 && status < 300;
+  }
+}
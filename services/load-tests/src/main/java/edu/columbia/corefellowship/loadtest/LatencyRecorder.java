@@ -0,0 +1,60 @@
+package edu.columbia.corefellowship.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-route latency histograms and error counts for one scenario run.
+ */
+public final class LatencyRecorder {
+
+  // 1us to 60s at 3 significant digits
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+  private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+  public void record(String route, long elapsedNanos, boolean error) {
+    Route stats = routes.computeIfAbsent(route, ignored -> new Route());
+    long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), HIGHEST_TRACKABLE_MICROS);
+    stats.histogram.recordValue(micros);
+    if (error) {
+      stats.errors.increment();
+    }
+  }
+
+  /**
+   * Snapshot of every route seen so far, sorted by route.
+   */
+  public Map<String, Route> getRoutes() {
+    return new TreeMap<>(routes);
+  }
+
+  public static final class Route {
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public long getCount() {
+      return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+      return errors.sum();
+    }
+
+    /** Latency at a percentile (0-100), in milliseconds. */
+    public double percentileMillis(double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+      return histogram.getMaxValue() / 1000.0;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package edu.columbia.corefellowship.loadtest;
+
+import edu.columbia.corefellowship.loadtest.scenario.AdminListingScenario;
+import edu.columbia.corefellowship.loadtest.scenario.AuthStormScenario;
+import edu.columbia.corefellowship.loadtest.scenario.ExportScenario;
+import edu.columbia.corefellowship.loadtest.scenario.ResumeScenario;
+import edu.columbia.corefellowship.loadtest.scenario.Scenario;
+import edu.columbia.corefellowship.loadtest.scenario.ScenarioContext;
+import edu.columbia.corefellowship.loadtest.scenario.SubmissionBurstScenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Boots the services against a local Mongo and local file storage, runs every selected
+ * scenario at every concurrency level through the gateway, and reports per-route latency.
+ *
+ * Run with ./gradlew :load-tests:loadTest (see build.gradle.kts for options).
+ */
+public final class LoadTestMain {
+
+  private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+  private LoadTestMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    // In data-dependency order: the storm registers accounts that submissions consume,
+    // and the later scenarios read the applications submissions created
+    List<Scenario> scenarios = List.<Scenario>of(
+            new AuthStormScenario(),
+            new SubmissionBurstScenario(),
+            new AdminListingScenario(settings),
+            new ExportScenario(settings),
+            new ResumeScenario(settings))
+        .stream()
+        .filter(scenario -> settings.includes(scenario.name()))
+        .toList();
+    if (scenarios.isEmpty()) {
+      throw new IllegalArgumentException("loadtest.scenarios matched no scenario");
+    }
+
+    EmbeddedMongo embedded = settings.getMongoUri().isBlank() ? EmbeddedMongo.start() : null;
+    String mongoUri = embedded != null ? embedded.getUri() : settings.getMongoUri();
+    try (ServiceCluster cluster = ServiceCluster.start(settings, mongoUri)) {
+      GatewayClient client = GatewayClient.create(cluster.getGatewayUri());
+      ScenarioContext context = ScenarioContext.create(client.recordingTo(new LatencyRecorder()));
+      ScenarioRunner runner = new ScenarioRunner(settings, client, context);
+
+      Report report = new Report(settings.isVirtualThreads(), settings.isPasswordHashOffload());
+      for (int concurrency : settings.getConcurrency()) {
+        for (Scenario scenario : scenarios) {
+          report.add(runner.run(scenario, concurrency));
+        }
+      }
+
+      report.print(System.out);
+      Path file = report.write(settings.getOutputDir());
+      log.info("Results written to {}", file);
+    } finally {
+      if (embedded != null) {
+        embedded.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package edu.columbia.corefellowship.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Load test options, read from loadtest.* system properties (passed as -Ploadtest.* to Gradle).
+ */
+public final class LoadTestSettings {
+
+  private final Duration duration;
+  private final Duration warmup;
+  private final List<Integer> concurrency;
+  private final boolean virtualThreads;
+  private final String mongoUri;
+  private final Set<String> scenarios;
+  private final String storageBackend;
+  private final String gcsEmulatorHost;
+  private final Integer bcryptCost;
+  private final boolean passwordHashOffload;
+  private final int seedStudents;
+  private final List<Integer> exportSizes;
+  private final int exportRuns;
+  private final String exportHeap;
+  private final Path outputDir;
+  private final Path gatewayJar;
+  private final Path identityJar;
+  private final Path applicationsJar;
+
+  private LoadTestSettings() {
+    this.duration = Duration.parse("PT" + property("loadtest.duration", "30s"));
+    this.warmup = Duration.parse("PT" + property("loadtest.warmup", "5s"));
+    this.concurrency = Arrays.stream(property("loadtest.concurrency", "200").split(","))
+        .map(String::trim)
+        .map(Integer::valueOf)
+        .toList();
+    this.virtualThreads = Boolean.parseBoolean(property("loadtest.virtualThreads", "true"));
+    this.mongoUri = property("loadtest.mongoUri", "");
+    String filter = property("loadtest.scenarios", "");
+    this.scenarios = filter.isBlank() ? Set.of() : Arrays.stream(filter.split(","))
+        .map(String::trim)
+        .collect(Collectors.toSet());
+    this.storageBackend = property("loadtest.storageBackend", "local");
+    this.gcsEmulatorHost = property("loadtest.gcsEmulatorHost", "http://localhost:4443");
+    String cost = property("loadtest.bcryptCost", "");
+    this.bcryptCost = cost.isBlank() ? null : Integer.valueOf(cost);
+    this.passwordHashOffload = Boolean.parseBoolean(property("loadtest.passwordHashOffload", "true"));
+    this.seedStudents = Integer.parseInt(property("loadtest.seedStudents", "500"));
+    this.exportSizes = Arrays.stream(property("loadtest.exportSizes", "10000,100000,1000000").split(","))
+        .map(String::trim)
+        .map(Integer::valueOf)
+        .toList();
+    this.exportRuns = Integer.parseInt(property("loadtest.exportRuns", "3"));
+    this.exportHeap = property("loadtest.exportHeap", "256m");
+    this.outputDir = Path.of(property("loadtest.outputDir", "build/results/loadtest"));
+    this.gatewayJar = Path.of(required("loadtest.jar.api-gateway"));
+    this.identityJar = Path.of(required("loadtest.jar.identity-service"));
+    this.applicationsJar = Path.of(required("loadtest.jar.applications-service"));
+  }
+
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings();
+  }
+
+  private static String property(String name, String defaultValue) {
+    String value = System.getProperty(name);
+    return value == null ? defaultValue : value;
+  }
+
+  private static String required(String name) {
+    String value = System.getProperty(name);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(name + " is not set; run through ./gradlew :load-tests:loadTest");
+    }
+    return value;
+  }
+
+  /**
+   * Whether a scenario was selected with loadtest.scenarios (all are, when it is empty).
+   */
+  public boolean includes(String scenario) {
+    return scenarios.isEmpty() || scenarios.contains(scenario);
+  }
+
+  /** Measured time per scenario and concurrency level. */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /** Unmeasured run before each measurement, so JIT and connection pools settle first. */
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  /** Concurrent clients; every scenario runs once per level. */
+  public List<Integer> getConcurrency() {
+    return concurrency;
+  }
+
+  /** Passed to the services as VIRTUAL_THREADS_ENABLED. */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /** Base URI of an existing Mongo (no database); empty starts an embedded one. */
+  public String getMongoUri() {
+    return mongoUri;
+  }
+
+  /** "local" (files on disk) or "gcs" (against gcsEmulatorHost). */
+  public String getStorageBackend() {
+    return storageBackend;
+  }
+
+  public String getGcsEmulatorHost() {
+    return gcsEmulatorHost;
+  }
+
+  /** BCrypt cost for identity-service, or null for its configured default. */
+  public Integer getBcryptCost() {
+    return bcryptCost;
+  }
+
+  /** Passed to identity-service as PASSWORD_HASH_OFFLOAD; false hashes on the request thread. */
+  public boolean isPasswordHashOffload() {
+    return passwordHashOffload;
+  }
+
+  /** Submitted applications created up front when a scenario needs existing data. */
+  public int getSeedStudents() {
+    return seedStudents;
+  }
+
+  /** Student application counts the export benchmark measures at, ascending. */
+  public List<Integer> getExportSizes() {
+    return exportSizes;
+  }
+
+  /** Measured requests per export and size. */
+  public int getExportRuns() {
+    return exportRuns;
+  }
+
+  /** -Xmx of applications-service in the export benchmark. */
+  public String getExportHeap() {
+    return exportHeap;
+  }
+
+  public Path getOutputDir() {
+    return outputDir;
+  }
+
+  public Path getGatewayJar() {
+    return gatewayJar;
+  }
+
+  public Path getIdentityJar() {
+    return identityJar;
+  }
+
+  public Path getApplicationsJar() {
+    return applicationsJar;
+  }
+}
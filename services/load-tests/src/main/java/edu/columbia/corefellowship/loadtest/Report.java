@@ -0,0 +1,114 @@
+package edu.columbia.corefellowship.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per route, printed as a table and written as JSON.
+ */
+public final class Report {
+
+  private final boolean virtualThreads;
+  private final boolean passwordHashOffload;
+  private final List<Run> runs = new ArrayList<>();
+
+  public Report(boolean virtualThreads, boolean passwordHashOffload) {
+    this.virtualThreads = virtualThreads;
+    this.passwordHashOffload = passwordHashOffload;
+  }
+
+  public void add(Run run) {
+    runs.add(run);
+  }
+
+  public void print(PrintStream out) {
+    out.printf("%nThread mode: %s%n", virtualThreads ? "virtual" : "platform");
+    out.printf("Password hashing: %s%n", passwordHashOffload ? "pool" : "inline");
+    String format = "%-14s %6s  %-52s %9s %7s %9s %9s %9s %9s%n";
+    out.printf(format, "scenario", "conc", "route", "requests", "errors",
+        "req/s", "p50 ms", "p99 ms", "p999 ms");
+    for (Run run : runs) {
+      double seconds = run.getElapsedNanos() / 1e9;
+      run.getRecorder().getRoutes().forEach((route, stats) -> out.printf(format,
+          run.getScenario(), run.getConcurrency(), route,
+          stats.getCount(), stats.getErrors(),
+          String.format("%.1f", stats.getCount() / seconds),
+          String.format("%.2f", stats.percentileMillis(50)),
+          String.format("%.2f", stats.percentileMillis(99)),
+          String.format("%.2f", stats.percentileMillis(99.9))));
+    }
+  }
+
+  public Path write(Path outputDir) throws IOException {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (Run run : runs) {
+      double seconds = run.getElapsedNanos() / 1e9;
+      run.getRecorder().getRoutes().forEach((route, stats) -> {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("scenario", run.getScenario());
+        row.put("concurrency", run.getConcurrency());
+        row.put("route", route);
+        row.put("requests", stats.getCount());
+        row.put("errors", stats.getErrors());
+        row.put("throughput", stats.getCount() / seconds);
+        row.put("p50Ms", stats.percentileMillis(50));
+        row.put("p99Ms", stats.percentileMillis(99));
+        row.put("p999Ms", stats.percentileMillis(99.9));
+        row.put("maxMs", stats.maxMillis());
+        rows.add(row);
+      });
+    }
+
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("threadMode", virtualThreads ? "virtual" : "platform");
+    document.put("passwordHashing", passwordHashOffload ? "pool" : "inline");
+    document.put("results", rows);
+
+    Files.createDirectories(outputDir);
+    // One file per thread mode and hashing mode, so the runs can be compared side by side
+    Path file = outputDir.resolve("results-" + (virtualThreads ? "virtual" : "platform")
+        + (passwordHashOffload ? "" : "-inline-hashing") + ".json");
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+    return file;
+  }
+
+  public static final class Run {
+
+    private final String scenario;
+    private final int concurrency;
+    private final long elapsedNanos;
+    private final LatencyRecorder recorder;
+
+    public Run(String scenario, int concurrency, long elapsedNanos, LatencyRecorder recorder) {
+      this.scenario = scenario;
+      this.concurrency = concurrency;
+      this.elapsedNanos = elapsedNanos;
+      this.recorder = recorder;
+    }
+
+    public String getScenario() {
+      return scenario;
+    }
+
+    public int getConcurrency() {
+      return concurrency;
+    }
+
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    public LatencyRecorder getRecorder() {
+      return recorder;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package edu.columbia.corefellowship.loadtest;
+
+import edu.columbia.corefellowship.loadtest.scenario.Scenario;
+import edu.columbia.corefellowship.loadtest.scenario.ScenarioContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a scenario with a fixed number of closed-loop workers, one virtual thread each:
+ * an unmeasured warmup, then the measured run.
+ */
+public final class ScenarioRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(ScenarioRunner.class);
+
+  // Pause after a failed iteration so a worker with nothing to do does not spin
+  private static final long BACKOFF_NANOS = Duration.ofMillis(50).toNanos();
+
+  private final LoadTestSettings settings;
+  private final GatewayClient client;
+  private final ScenarioContext context;
+
+  public ScenarioRunner(LoadTestSettings settings, GatewayClient client, ScenarioContext context) {
+    this.settings = settings;
+    this.client = client;
+    this.context = context;
+  }
+
+  public Report.Run run(Scenario scenario, int concurrency) {
+    scenario.setUp(context, client.recordingTo(new LatencyRecorder()), concurrency);
+
+    log.info("{} x{}: warming up for {}", scenario.name(), concurrency, settings.getWarmup());
+    drive(scenario, concurrency, settings.getWarmup(), new LatencyRecorder());
+
+    log.info("{} x{}: measuring for {}", scenario.name(), concurrency, settings.getDuration());
+    LatencyRecorder recorder = new LatencyRecorder();
+    long elapsed = drive(scenario, concurrency, settings.getDuration(), recorder);
+    return new Report.Run(scenario.name(), concurrency, elapsed, recorder);
+  }
+
+  /**
+   * Returns the wall-clock time until the last worker finished, in nanoseconds.
+   */
+  private long drive(Scenario scenario, int concurrency, Duration duration, LatencyRecorder recorder) {
+    GatewayClient recording = client.recordingTo(recorder);
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int w = 0; w < concurrency; w++) {
+        int worker = w;
+        workers.execute(() -> {
+          long iteration = 0;
+          while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            if (!scenario.iteration(context, recording, worker, iteration++)) {
+              LockSupport.parkNanos(BACKOFF_NANOS);
+            }
+          }
+        });
+      }
+    }
+    return System.nanoTime() - start;
+  }
+}
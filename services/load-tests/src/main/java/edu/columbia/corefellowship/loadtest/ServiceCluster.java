@@ -0,0 +1,211 @@
+package edu.columbia.corefellowship.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the three services as child processes from their boot jars, wired the way
+ * docker compose wires them but on ports that do not clash with a dev stack.
+ */
+public final class ServiceCluster implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ServiceCluster.class);
+
+  public static final String JWT_SECRET = "load-test-secret-load-test-secret-load-test-secret";
+  public static final String ADMIN_REGISTRATION_TOKEN = "load-test-admin-token";
+
+  public static final int GATEWAY_PORT = 18080;
+  public static final int IDENTITY_PORT = 18082;
+  public static final int APPLICATIONS_PORT = 18083;
+
+  // Management (actuator) ports are the service port + 1000
+  private static final int MANAGEMENT_OFFSET = 1000;
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+  private final List<Process> processes = new ArrayList<>();
+
+  private ServiceCluster() {
+  }
+
+  public static ServiceCluster start(LoadTestSettings settings, String mongoUri) throws IOException, InterruptedException {
+    ServiceCluster cluster = new ServiceCluster();
+    try {
+      Path logs = Files.createDirectories(settings.getOutputDir().resolve("logs"));
+      Path storage = Files.createDirectories(settings.getOutputDir().resolve("storage"));
+
+      Map<String, String> common = commonEnv(settings);
+
+      Map<String, String> identity = new HashMap<>(common);
+      identity.put("SPRING_DATA_MONGODB_URI", databaseUri(mongoUri, "identity"));
+      identity.put("ADMIN_REGISTRATION_TOKEN", ADMIN_REGISTRATION_TOKEN);
+      if (settings.getBcryptCost() != null) {
+        identity.put("BCRYPT_COST", String.valueOf(settings.getBcryptCost()));
+      }
+      identity.put("PASSWORD_HASH_OFFLOAD", String.valueOf(settings.isPasswordHashOffload()));
+
+      Map<String, String> applications = applicationsEnv(settings, mongoUri, common, storage);
+
+      Map<String, String> gateway = new HashMap<>(common);
+      gateway.put("IDENTITY_BASE_URL", "http://localhost:" + IDENTITY_PORT);
+      gateway.put("APPLICATIONS_BASE_URL", "http://localhost:" + APPLICATIONS_PORT);
+
+      cluster.launch("identity-service", settings.getIdentityJar(), IDENTITY_PORT, identity, logs);
+      cluster.launch("applications-service", settings.getApplicationsJar(), APPLICATIONS_PORT, applications, logs);
+      cluster.launch("api-gateway", settings.getGatewayJar(), GATEWAY_PORT, gateway, logs);
+
+      awaitHealthy("identity-service", IDENTITY_PORT);
+      awaitHealthy("applications-service", APPLICATIONS_PORT);
+      awaitHealthy("api-gateway", GATEWAY_PORT);
+      return cluster;
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      cluster.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Only applications-service, for measurements that call it directly with the gateway's
+   * X-User-* headers. Its export cache expires entries at once, so no request is a hit.
+   *
+   * @param jvmOptions Options for its JVM (e.g. "-Xmx256m"), passed as JAVA_TOOL_OPTIONS
+   */
+  public static ServiceCluster startApplications(LoadTestSettings settings, String mongoUri, String jvmOptions)
+      throws IOException, InterruptedException {
+    ServiceCluster cluster = new ServiceCluster();
+    try {
+      Path logs = Files.createDirectories(settings.getOutputDir().resolve("logs"));
+      Path storage = Files.createDirectories(settings.getOutputDir().resolve("storage"));
+
+      Map<String, String> applications = applicationsEnv(settings, mongoUri, commonEnv(settings), storage);
+      applications.put("JAVA_TOOL_OPTIONS", jvmOptions);
+      // Every gzip export is built and captured, instead of served from an earlier one
+      applications.put("EXPORT_CACHE_TTL", "0s");
+
+      cluster.launch("applications-service", settings.getApplicationsJar(), APPLICATIONS_PORT, applications, logs);
+      awaitHealthy("applications-service", APPLICATIONS_PORT);
+      return cluster;
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      cluster.close();
+      throw e;
+    }
+  }
+
+  public URI getGatewayUri() {
+    return URI.create("http://localhost:" + GATEWAY_PORT);
+  }
+
+  public URI getApplicationsUri() {
+    return URI.create("http://localhost:" + APPLICATIONS_PORT);
+  }
+
+  /**
+   * Actuator base of applications-service, on its management port.
+   */
+  public URI getApplicationsManagementUri() {
+    return URI.create("http://localhost:" + (APPLICATIONS_PORT + MANAGEMENT_OFFSET) + "/actuator/");
+  }
+
+  private static Map<String, String> commonEnv(LoadTestSettings settings) {
+    Map<String, String> common = new HashMap<>();
+    common.put("JWT_SECRET", JWT_SECRET);
+    common.put("JWT_ISSUER", "core-fellowship-load-test");
+    common.put("JWT_AUDIENCE", "core-fellowship");
+    common.put("VIRTUAL_THREADS_ENABLED", String.valueOf(settings.isVirtualThreads()));
+    return common;
+  }
+
+  private static Map<String, String> applicationsEnv(
+      LoadTestSettings settings, String mongoUri, Map<String, String> common, Path storage) {
+    Map<String, String> applications = new HashMap<>(common);
+    applications.put("SPRING_DATA_MONGODB_URI", databaseUri(mongoUri, "applications"));
+    // Logs the startup explain() of every finder next to the results
+    applications.put("SPRING_PROFILES_ACTIVE", "bench");
+    applications.put("STORAGE_BACKEND", settings.getStorageBackend());
+    applications.put("STORAGE_LOCAL_ROOT", storage.toString());
+    applications.put("STORAGE_LOCAL_PUBLIC_BASE_URL", "http://localhost:" + APPLICATIONS_PORT);
+    if ("gcs".equals(settings.getStorageBackend())) {
+      applications.put("GCS_EMULATOR_HOST", settings.getGcsEmulatorHost());
+    }
+    return applications;
+  }
+
+  private void launch(String name, Path jar, int port, Map<String, String> env, Path logs) throws IOException {
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalStateException(name + " jar not found at " + jar + "; build it with bootJar first");
+    }
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    ProcessBuilder builder = new ProcessBuilder(java, "-jar", jar.toString())
+        .redirectErrorStream(true)
+        .redirectOutput(logs.resolve(name + ".log").toFile());
+    builder.environment().putAll(env);
+    builder.environment().put("PORT", String.valueOf(port));
+    builder.environment().put("MANAGEMENT_PORT", String.valueOf(port + MANAGEMENT_OFFSET));
+    log.info("Starting {} on port {} (log: {})", name, port, logs.resolve(name + ".log"));
+    processes.add(builder.start());
+  }
+
+  private static void awaitHealthy(String name, int port) throws InterruptedException {
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    HttpRequest request = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + (port + MANAGEMENT_OFFSET) + "/actuator/health")).build();
+
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          log.info("{} is up", name);
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(500);
+    }
+    throw new IllegalStateException(name + " did not become healthy within " + STARTUP_TIMEOUT);
+  }
+
+  /**
+   * Adds a database to a base URI, keeping any query (e.g. authSource) after it.
+   */
+  static String databaseUri(String baseUri, String database) {
+    int query = baseUri.indexOf('?');
+    String base = query < 0 ? baseUri : baseUri.substring(0, query);
+    String options = query < 0 ? "" : baseUri.substring(query);
+    if (base.endsWith("/")) {
+      base = base.substring(0, base.length() - 1);
+    }
+    return base + "/" + database + options;
+  }
+
+  @Override
+  public void close() {
+    for (Process process : processes) {
+      process.destroy();
+    }
+    for (Process process : processes) {
+      try {
+        if (!process.waitFor(15, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        process.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+    processes.clear();
+  }
+}
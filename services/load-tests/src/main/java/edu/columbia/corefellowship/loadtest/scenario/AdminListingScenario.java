@@ -0,0 +1,45 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+import edu.columbia.corefellowship.loadtest.LoadTestSettings;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * Admins hammering GET /v1/students/applications with the queries the dashboard issues:
+ * the first keyset page, a status-filtered page, the summary projection and the full list.
+ */
+public final class AdminListingScenario implements Scenario {
+
+  private static final List<String> QUERIES = List.of(
+      "?limit=50",
+      "?limit=50&status=submitted",
+      "?fields=summary",
+      "");
+
+  private final LoadTestSettings settings;
+
+  public AdminListingScenario(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public String name() {
+    return "admin-listing";
+  }
+
+  @Override
+  public void setUp(ScenarioContext context, GatewayClient client, int concurrency) {
+    context.ensureSubmitted(client, settings.getSeedStudents());
+  }
+
+  @Override
+  public boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration) {
+    String query = QUERIES.get((int) ((worker + iteration) % QUERIES.size()));
+    HttpRequest request = client.request("/v1/students/applications" + query, context.getAdminToken())
+        .GET()
+        .build();
+    return client.sendDiscarding("GET /v1/students/applications" + query, request);
+  }
+}
@@ -0,0 +1,25 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+
+/**
+ * Registration and login storm: every iteration registers a new student and logs in,
+ * so both calls pay for a full BCrypt hash. The accounts feed the submission scenario.
+ */
+public final class AuthStormScenario implements Scenario {
+
+  @Override
+  public String name() {
+    return "auth-storm";
+  }
+
+  @Override
+  public boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration) {
+    Student student = context.registerStudent(client);
+    if (student == null) {
+      return false;
+    }
+    context.addRegistered(student);
+    return true;
+  }
+}
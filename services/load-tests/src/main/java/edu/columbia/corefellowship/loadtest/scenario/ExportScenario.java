@@ -0,0 +1,48 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+import edu.columbia.corefellowship.loadtest.LoadTestSettings;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * Concurrent CSV, JSON and NDJSON exports. Requests ask for gzip like a browser would, so repeated
+ * exports are served from the export cache; the body is read in full and dropped.
+ */
+public final class ExportScenario implements Scenario {
+
+  private static final List<String> EXPORTS = List.of(
+      "/v1/export/students.csv",
+      "/v1/export/students.json",
+      "/v1/export/students.ndjson",
+      "/v1/export/startups.csv",
+      "/v1/export/startups.json",
+      "/v1/export/startups.ndjson");
+
+  private final LoadTestSettings settings;
+
+  public ExportScenario(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public String name() {
+    return "exports";
+  }
+
+  @Override
+  public void setUp(ScenarioContext context, GatewayClient client, int concurrency) {
+    context.ensureSubmitted(client, settings.getSeedStudents());
+  }
+
+  @Override
+  public boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration) {
+    String path = EXPORTS.get((int) ((worker + iteration) % EXPORTS.size()));
+    HttpRequest request = client.request(path, context.getAdminToken())
+        .header("Accept-Encoding", "gzip")
+        .GET()
+        .build();
+    return client.sendDiscarding("GET " + path, request);
+  }
+}
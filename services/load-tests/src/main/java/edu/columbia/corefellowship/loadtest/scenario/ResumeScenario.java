@@ -0,0 +1,85 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+import edu.columbia.corefellowship.loadtest.LoadTestSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resume uploads and signed-URL fetches: each iteration uploads a PDF for one of the
+ * submitted applications, asks for its signed URL and downloads the file through it.
+ */
+public final class ResumeScenario implements Scenario {
+
+  private static final String BOUNDARY = "load-test-boundary";
+  // Typical one-page resume
+  private static final int RESUME_SIZE = 200 * 1024;
+
+  private final LoadTestSettings settings;
+  private final byte[] body = multipartBody();
+  private volatile List<Student> students = List.of();
+
+  public ResumeScenario(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public String name() {
+    return "resumes";
+  }
+
+  @Override
+  public void setUp(ScenarioContext context, GatewayClient client, int concurrency) {
+    // One application per worker, so concurrent uploads do not race on the same document
+    context.ensureSubmitted(client, Math.max(concurrency, settings.getSeedStudents()));
+    students = context.getSubmitted();
+  }
+
+  @Override
+  public boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration) {
+    List<Student> available = students;
+    if (available.isEmpty()) {
+      return false;
+    }
+    Student student = available.get(worker % available.size());
+    String resumePath = "/v1/students/applications/" + student.getApplicationId() + "/resume";
+
+    HttpRequest upload = client.request(resumePath, student.getToken())
+        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+    if (!client.sendDiscarding("POST /v1/students/applications/{id}/resume", upload)) {
+      return false;
+    }
+
+    HttpRequest sign = client.request(resumePath, student.getToken()).GET().build();
+    JsonNode signed = client.sendJson("GET /v1/students/applications/{id}/resume", sign);
+    if (signed == null || !signed.hasNonNull("signedUrl")) {
+      return false;
+    }
+
+    // Signed URLs point at the storage backend (or applications-service for local files)
+    HttpRequest download = client.request(signed.get("signedUrl").asText(), null).GET().build();
+    return client.sendDiscarding("GET {signedUrl}", download);
+  }
+
+  private static byte[] multipartBody() {
+    byte[] pdf = new byte[RESUME_SIZE];
+    Arrays.fill(pdf, (byte) ' ');
+    byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(header, 0, pdf, 0, header.length);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(RESUME_SIZE + 512);
+    out.writeBytes(("--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+        + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+    out.writeBytes(pdf);
+    out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+    return out.toByteArray();
+  }
+}
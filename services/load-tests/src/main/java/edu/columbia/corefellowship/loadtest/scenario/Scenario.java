@@ -0,0 +1,26 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+
+/**
+ * One workload. Each concurrent worker calls iteration() in a closed loop until the
+ * run ends, so throughput is whatever the services sustain at that concurrency.
+ */
+public interface Scenario {
+
+  /**
+   * Name used in reports and by loadtest.scenarios.
+   */
+  String name();
+
+  /**
+   * Create whatever data the scenario needs; calls made here are not measured.
+   */
+  default void setUp(ScenarioContext context, GatewayClient client, int concurrency) {
+  }
+
+  /**
+   * Run one unit of work. Returning false backs the worker off briefly (e.g. no data yet).
+   */
+  boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration);
+}
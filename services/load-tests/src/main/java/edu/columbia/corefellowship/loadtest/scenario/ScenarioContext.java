@@ -0,0 +1,170 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+import edu.columbia.corefellowship.loadtest.ServiceCluster;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State shared across scenarios in one run: the admin token, students registered by the
+ * auth storm (consumed by submissions) and students with a submitted application.
+ */
+public final class ScenarioContext {
+
+  public static final String PASSWORD = "load-test-password";
+
+  // Unique per run, so a run against a shared Mongo never collides with an earlier one
+  private final String runId = Long.toString(System.currentTimeMillis(), 36);
+  private final AtomicLong emailSequence = new AtomicLong();
+  private final ConcurrentLinkedQueue<Student> registered = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedQueue<Student> submitted = new ConcurrentLinkedQueue<>();
+  private final String adminToken;
+
+  private ScenarioContext(String adminToken) {
+    this.adminToken = adminToken;
+  }
+
+  public static ScenarioContext create(GatewayClient client) {
+    ScenarioContext context = new ScenarioContext(null);
+    String email = context.nextEmail("admin");
+    if (!context.register(client, email, "ADMIN", ServiceCluster.ADMIN_REGISTRATION_TOKEN)) {
+      throw new IllegalStateException("Could not register the load test admin");
+    }
+    String token = context.login(client, email);
+    if (token == null) {
+      throw new IllegalStateException("Could not log in as the load test admin");
+    }
+    return new ScenarioContext(token);
+  }
+
+  public String getAdminToken() {
+    return adminToken;
+  }
+
+  public String nextEmail(String prefix) {
+    return prefix + "-" + runId + "-" + emailSequence.incrementAndGet() + "@loadtest.columbia.edu";
+  }
+
+  public boolean register(GatewayClient client, String email, String userType, String adminToken) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("email", email);
+    body.put("password", PASSWORD);
+    body.put("userType", userType);
+    body.put("fullName", "Load Test " + userType.toLowerCase());
+    if (adminToken != null) {
+      body.put("adminToken", adminToken);
+    }
+    HttpRequest request = client.request("/v1/auth/register", null)
+        .header("Content-Type", "application/json")
+        .POST(GatewayClient.json(body))
+        .build();
+    return client.sendJson("POST /v1/auth/register", request) != null;
+  }
+
+  /**
+   * Log in and return the access token, or null on failure.
+   */
+  public String login(GatewayClient client, String email) {
+    HttpRequest request = client.request("/v1/auth/login", null)
+        .header("Content-Type", "application/json")
+        .POST(GatewayClient.json(Map.of("email", email, "password", PASSWORD)))
+        .build();
+    JsonNode response = client.sendJson("POST /v1/auth/login", request);
+    return response == null ? null : response.path("accessToken").asText(null);
+  }
+
+  /**
+   * Register and log in a new student, or null if either call failed.
+   */
+  public Student registerStudent(GatewayClient client) {
+    String email = nextEmail("student");
+    if (!register(client, email, "STUDENT", null)) {
+      return null;
+    }
+    String token = login(client, email);
+    return token == null ? null : new Student(email, token, null);
+  }
+
+  /**
+   * Submit an application for a student, or null on failure.
+   */
+  public Student submitApplication(GatewayClient client, Student student) {
+    HttpRequest request = client.request("/v1/students/applications", student.getToken())
+        .header("Content-Type", "application/json")
+        .POST(GatewayClient.json(applicationBody(student.getEmail())))
+        .build();
+    JsonNode response = client.sendJson("POST /v1/students/applications", request);
+    if (response == null || !response.hasNonNull("id")) {
+      return null;
+    }
+    Student withApplication = student.withApplicationId(response.get("id").asText());
+    submitted.add(withApplication);
+    return withApplication;
+  }
+
+  public void addRegistered(Student student) {
+    registered.add(student);
+  }
+
+  /**
+   * A registered student without an application, or null when the auth storm left none.
+   */
+  public Student pollRegistered() {
+    return registered.poll();
+  }
+
+  public List<Student> getSubmitted() {
+    return new ArrayList<>(submitted);
+  }
+
+  /**
+   * Make sure at least count applications exist, registering and submitting the rest in
+   * parallel. Used when a scenario runs without the earlier ones that create data.
+   */
+  public void ensureSubmitted(GatewayClient client, int count) {
+    int missing = count - submitted.size();
+    if (missing <= 0) {
+      return;
+    }
+    try (ExecutorService workers = Executors.newFixedThreadPool(32, Thread.ofVirtual().factory())) {
+      for (int i = 0; i < missing; i++) {
+        workers.execute(() -> {
+          Student student = pollRegistered();
+          if (student == null) {
+            student = registerStudent(client);
+          }
+          if (student != null) {
+            submitApplication(client, student);
+          }
+        });
+      }
+    }
+  }
+
+  static Map<String, Object> applicationBody(String email) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("fullName", "Load Test Student");
+    body.put("gradYear", "2027");
+    body.put("school", "Columbia College");
+    body.put("major", "Computer Science");
+    body.put("email", email);
+    body.put("rolePreferences", List.of("Tech", "Business"));
+    body.put("startupsAndIndustries", "Climate and fintech startups building developer tools.");
+    body.put("contributionAndExperience", "Backend services, data pipelines and a campus hackathon project.");
+    body.put("workMode", "Hybrid");
+    body.put("timeCommitment", "15 hours per week");
+    body.put("isUSCitizen", "Yes");
+    body.put("previouslyApplied", false);
+    body.put("hasUpcomingInternshipOffers", false);
+    return body;
+  }
+}
@@ -0,0 +1,33 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+/**
+ * A registered student account with its access token and, once submitted, its application id.
+ */
+public final class Student {
+
+  private final String email;
+  private final String token;
+  private final String applicationId;
+
+  public Student(String email, String token, String applicationId) {
+    this.email = email;
+    this.token = token;
+    this.applicationId = applicationId;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public String getApplicationId() {
+    return applicationId;
+  }
+
+  public Student withApplicationId(String applicationId) {
+    return new Student(email, token, applicationId);
+  }
+}
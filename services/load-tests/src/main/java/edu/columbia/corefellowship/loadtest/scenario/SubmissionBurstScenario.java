@@ -0,0 +1,28 @@
+package edu.columbia.corefellowship.loadtest.scenario;
+
+import edu.columbia.corefellowship.loadtest.GatewayClient;
+
+/**
+ * Application submission bursts: each iteration submits one application for a student
+ * that has none yet. Accounts left by the auth storm are used first; after that new
+ * ones are registered inline and show up under the auth routes.
+ */
+public final class SubmissionBurstScenario implements Scenario {
+
+  @Override
+  public String name() {
+    return "submissions";
+  }
+
+  @Override
+  public boolean iteration(ScenarioContext context, GatewayClient client, int worker, long iteration) {
+    Student student = context.pollRegistered();
+    if (student == null) {
+      student = context.registerStudent(client);
+      if (student == null) {
+        return false;
+      }
+    }
+    return context.submitApplication(client, student) != null;
+  }
+}
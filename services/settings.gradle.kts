@@ -3,3 +3,6 @@ rootProject.name = "core-fellowship-services"
 include("api-gateway")
 include("identity-service")
 include("applications-service")
+include("benchmarks")
+include("load-tests")
+include("data-seeder")
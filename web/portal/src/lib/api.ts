@@ -150,6 +150,7 @@ export interface Interview {
   recommendation: Recommendation;
   createdAt: string;
   updatedAt: string;
+  version?: number;
 }
 
 export interface CreateInterviewRequest {
@@ -174,6 +175,8 @@ export interface UpdateInterviewRequest {
   concerns?: string;
   notes?: string;
   recommendation?: Recommendation;
+  // Version last read; the update is rejected with 409 if someone else changed it since
+  version?: number;
 }
 
 // Interview API
@@ -213,6 +216,7 @@ export interface StudentApplication {
   status: string;
   submittedAt: string;
   updatedAt: string;
+  version?: number;
 }
 
 // Application API
@@ -277,6 +281,12 @@ export async function getResumeSignedUrl(applicationId: string): Promise<{ signe
   return getJson<{ signedUrl: string; expiresIn: string }>(`/v1/students/applications/${applicationId}/resume`);
 }
 
+// Admin only: signed resume URLs for up to 200 applications, keyed by application id
+export async function getResumeSignedUrls(applicationIds: string[]): Promise<{ urls: Record<string, string>; expiresIn?: string }> {
+  const ids = applicationIds.map(encodeURIComponent).join(',');
+  return getJson<{ urls: Record<string, string>; expiresIn?: string }>(`/v1/students/applications/resume-urls?ids=${ids}`);
+}
+
 // Startup types and API
 export interface Startup {
   id: string;
@@ -311,6 +321,7 @@ export interface Startup {
   updatedAt?: string;
   reviewedBy?: string;
   reviewNotes?: string;
+  version?: number;
 }
 
 export interface Position {
@@ -363,6 +374,86 @@ export async function getAllApplications(params?: {
   return getJson<any[]>(`/v1/students/applications${query}`);
 }
 
+// Keyset-paginated listing: pass nextCursor back as `after` to load the next page
+export interface Page<T> {
+  items: T[];
+  nextCursor: string | null;
+  limit: number;
+}
+
+export interface PageParams {
+  limit?: number;
+  after?: string;
+  order?: 'asc' | 'desc';
+  term?: string;
+  status?: string;
+  // "summary" for the list-view columns, or a comma-separated list of field names
+  fields?: string;
+}
+
+function toQuery(params: Record<string, string | number | undefined>): string {
+  const search = new URLSearchParams();
+  Object.entries(params).forEach(([key, value]) => {
+    if (value !== undefined && value !== '') {
+      search.append(key, String(value));
+    }
+  });
+  const query = search.toString();
+  return query ? `?${query}` : '';
+}
+
+export async function getApplicationsPage(
+  params: PageParams & { school?: string; gradYear?: string } = {}
+): Promise<Page<any>> {
+  return getJson<Page<any>>(`/v1/students/applications${toQuery({ limit: 50, ...params })}`);
+}
+
+export async function getStartupsPage(
+  params: PageParams & { industry?: string } = {}
+): Promise<Page<Startup>> {
+  return getJson<Page<Startup>>(`/v1/startups${toQuery({ limit: 50, ...params })}`);
+}
+
+// Dashboard counters, served from the applications-service in-memory status counts
+export interface StatusCountSummary {
+  total: number;
+  byStatus: Record<string, number>;
+  byTerm: Record<string, Record<string, number>>;
+}
+
+export interface StatusCounts {
+  studentApplications: StatusCountSummary;
+  startups: StatusCountSummary;
+}
+
+export async function getStatusCounts(term?: string): Promise<StatusCounts> {
+  return getJson<StatusCounts>(`/v1/stats/status-counts${toQuery({ term })}`);
+}
+
+// Interviewed candidates ranked by overall interview score (admin only)
+export interface RankedCandidate {
+  applicationId: string;
+  fullName?: string;
+  email?: string;
+  school?: string;
+  term?: string;
+  status?: string;
+  overallScore: number;
+  recommendation?: 'STRONG_YES' | 'YES' | 'MAYBE' | 'NO';
+}
+
+export interface InterviewRanking {
+  term: string | null;
+  interviewed: number;
+  top: RankedCandidate[];
+  percentiles: Record<string, number | null>;
+  recommendations: Partial<Record<'STRONG_YES' | 'YES' | 'MAYBE' | 'NO', number>>;
+}
+
+export async function getInterviewRankings(term?: string, k?: number): Promise<InterviewRanking> {
+  return getJson<InterviewRanking>(`/v1/stats/interview-rankings${toQuery({ term, k })}`);
+}
+
 export async function updateApplicationStatus(
   applicationId: string,
   status: 'submitted' | 'under_review' | 'accepted' | 'rejected',
@@ -382,6 +473,51 @@ export async function updateApplicationStatus(
   }
 }
 
+export interface BulkStatusUpdateResult {
+  requested: number;
+  updated: number;
+  unchanged: number;
+  not_found: number;
+  results: Record<string, 'updated' | 'unchanged' | 'not_found'>;
+}
+
+async function bulkUpdateStatus(
+  path: string,
+  ids: string[],
+  status: string,
+  reviewNotes?: string
+): Promise<BulkStatusUpdateResult> {
+  const res = await fetch(`${API_BASE}${path}`, {
+    method: 'PATCH',
+    headers: getHeaders(),
+    body: JSON.stringify({ ids, status, reviewNotes }),
+  });
+  if (!res.ok) {
+    if (res.status === 401) {
+      handleUnauthorized();
+    }
+    const text = await res.text();
+    throw new Error(`HTTP ${res.status}: ${text}`);
+  }
+  return res.json();
+}
+
+export async function bulkUpdateApplicationStatus(
+  applicationIds: string[],
+  status: 'submitted' | 'under_review' | 'accepted' | 'rejected',
+  reviewNotes?: string
+): Promise<BulkStatusUpdateResult> {
+  return bulkUpdateStatus('/v1/students/applications/bulk/status', applicationIds, status, reviewNotes);
+}
+
+export async function bulkUpdateStartupStatus(
+  startupIds: string[],
+  status: string,
+  reviewNotes?: string
+): Promise<BulkStatusUpdateResult> {
+  return bulkUpdateStatus('/v1/startups/bulk/status', startupIds, status, reviewNotes);
+}
+
 export async function exportApplicationsCSV(): Promise<Blob> {
   const res = await fetch(`${API_BASE}/v1/export/students.csv`, {
     headers: getHeaders(),
@@ -8,7 +8,9 @@ import {
   exportApplicationsCSV,
   exportApplicationsJSON,
   getResumeSignedUrl,
-  getStartups
+  getResumeSignedUrls,
+  getStartups,
+  getStatusCounts
 } from '../../lib/api';
 import type { Startup } from '../../lib/api';
 
@@ -107,6 +109,7 @@ export default function AdminDashboard() {
   const [typeFilter, setTypeFilter] = useState<string>('all');
   const [selectedApp, setSelectedApp] = useState<Application | null>(null);
   const [resumeSignedUrl, setResumeSignedUrl] = useState<string | null>(null);
+  const [resumeUrls, setResumeUrls] = useState<Record<string, { url: string; expiresAt: number }>>({});
   const [stats, setStats] = useState<Stats>({
     total: 0,
     submitted: 0,
@@ -157,9 +160,18 @@ export default function AdminDashboard() {
     setSelectedStartup(null);
   }, [activeTab]);
 
+  useEffect(() => {
+    prefetchResumeUrls();
+  }, [filteredApps]);
+
   useEffect(() => {
     async function fetchResumeUrl() {
       if (selectedApp?.resumeUrl && selectedApp.userType === 'STUDENT') {
+        const prefetched = resumeUrls[selectedApp.id];
+        if (prefetched && prefetched.expiresAt > Date.now()) {
+          setResumeSignedUrl(prefetched.url);
+          return;
+        }
         try {
           const { signedUrl } = await getResumeSignedUrl(selectedApp.id);
           setResumeSignedUrl(signedUrl);
@@ -174,6 +186,32 @@ export default function AdminDashboard() {
     fetchResumeUrl();
   }, [selectedApp]);
 
+  // Sign resume URLs for the listed applications in one request, so opening an
+  // application does not need its own round trip
+  async function prefetchResumeUrls() {
+    const now = Date.now();
+    const missing = filteredApps
+      .filter(app => app.resumeUrl && app.userType === 'STUDENT' && !(resumeUrls[app.id]?.expiresAt > now))
+      .slice(0, 200)
+      .map(app => app.id);
+    if (missing.length === 0) {
+      return;
+    }
+    try {
+      const { urls, expiresIn } = await getResumeSignedUrls(missing);
+      const expiresAt = now + parseInt(expiresIn ?? '0', 10) * 60_000;
+      setResumeUrls(prev => {
+        const next = { ...prev };
+        for (const [id, url] of Object.entries(urls)) {
+          next[id] = { url, expiresAt };
+        }
+        return next;
+      });
+    } catch (err) {
+      console.error('Failed to prefetch resume URLs:', err);
+    }
+  }
+
   async function loadApplications() {
     try {
       setLoading(true);
@@ -183,7 +221,7 @@ export default function AdminDashboard() {
         userType: 'STUDENT',
       }));
       setApplications(normalized);
-      calculateStats(normalized);
+      await loadStats(normalized);
     } catch (err: any) {
       setError(err.message || 'Failed to load applications');
     } finally {
@@ -196,7 +234,7 @@ export default function AdminDashboard() {
       setStartupLoading(true);
       const data = await getStartups();
       setStartups(data);
-      calculateStartupStats(data);
+      await loadStartupStats(data);
     } catch (err: any) {
       setStartupError(err.message || 'Failed to load startup intakes');
     } finally {
@@ -204,6 +242,39 @@ export default function AdminDashboard() {
     }
   }
 
+  // Header counters come from the server-side status counts; fall back to counting locally
+  async function loadStats(apps: Application[]) {
+    try {
+      const counts = await getStatusCounts();
+      const byStatus = counts.studentApplications.byStatus;
+      setStats({
+        total: counts.studentApplications.total,
+        submitted: byStatus.submitted ?? 0,
+        under_review: byStatus.under_review ?? 0,
+        accepted: byStatus.accepted ?? 0,
+        rejected: byStatus.rejected ?? 0,
+      });
+    } catch {
+      calculateStats(apps);
+    }
+  }
+
+  async function loadStartupStats(items: Startup[]) {
+    try {
+      const counts = await getStatusCounts();
+      const byStatus = counts.startups.byStatus;
+      setStartupStats({
+        total: counts.startups.total,
+        submitted: byStatus.submitted ?? 0,
+        approved: byStatus.approved ?? 0,
+        active: byStatus.active ?? 0,
+        inactive: byStatus.inactive ?? 0,
+      });
+    } catch {
+      calculateStartupStats(items);
+    }
+  }
+
   function calculateStats(apps: Application[]) {
     setStats({
       total: apps.length,